@@ -0,0 +1,5 @@
+#!/bin/bash
+# Primary ilk kez başlatılırken çalışır (docker-entrypoint-initdb.d):
+# replica container'ının pg_basebackup / streaming replication bağlantısına izin verir.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,56 @@
+// Dev vs prod log yapılandırması yük testi (k6)
+//
+// Aynı script iki kez çalıştırılır, sonuçlardaki http_reqs (throughput)
+// ve http_req_duration p(99) değerleri karşılaştırılır:
+//
+//   1) Dev log'ları:   java -jar app.jar
+//                      (show-sql, BasicBinder TRACE, security DEBUG, senkron console)
+//   2) Prod log'ları:  java -jar app.jar --spring.profiles.active=prod
+//                      (SQL log kapalı, JSON + async ring buffer, DEBUG örnekleme)
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=admin -e PASSWORD=secret \
+//       loadtest/logging-profiles.js --summary-export=summary-<profil>.json
+//
+// Log çıktısı gerçek ortamdaki gibi bir dosyaya / pipe'a yönlendirilmeli
+// (örn: > app.log), terminale yazdırmak dev tarafını olduğundan yavaş gösterir.
+//
+// Senaryo: Sabit eşzamanlılıkta (closed model) maksimum throughput. Her istek
+// JWT doğrulaması + SQL sorgusu çalıştırır, yani istek başına log satırı üretir.
+// Rate limit bu test için kapatılmalı: RATE_LIMIT_ENABLED=false
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        saturation: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 100),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    check(response, { 'login 200': (r) => r.status === 200 });
+    return { token: response.json('data.token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/users/me`, null, params],
+        ['GET', `${BASE_URL}/api/users?limit=20`, null, params],
+    ]);
+
+    check(responses[0], { 'me 200': (r) => r.status === 200 });
+    check(responses[1], { 'list 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,59 @@
+// Platform thread vs virtual thread yük testi (k6)
+//
+// Aynı script iki kez çalıştırılır, sonuçlardaki http_reqs (throughput)
+// ve http_req_duration p(99) değerleri karşılaştırılır:
+//
+//   1) Platform thread:  java -jar app.jar
+//   2) Virtual thread:   java -jar app.jar --spring.profiles.active=virtual   (Java 21+)
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=admin -e PASSWORD=secret \
+//       loadtest/virtual-threads.js --summary-export=summary-<mod>.json
+//
+// Senaryo: kısa süreli patlamalar (bursty load). Tomcat'in 200 thread'i ve Hikari'nin
+// 10 bağlantısı üzerinde kuyruklanma davranışı ölçülür.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        bursty: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 200, duration: '30s' },
+                { target: 1500, duration: '10s' },  // patlama
+                { target: 200, duration: '30s' },
+                { target: 1500, duration: '10s' },  // patlama
+                { target: 0, duration: '10s' },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    check(response, { 'login 200': (r) => r.status === 200 });
+    return { token: response.json('data.token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/users/me`, null, params],
+        ['GET', `${BASE_URL}/api/users?limit=20`, null, params],
+    ]);
+
+    check(responses[0], { 'me 200': (r) => r.status === 200 });
+    check(responses[1], { 'list 200': (r) => r.status === 200 });
+}
@@ -2,19 +2,25 @@ package com.ahmet.order_management.auth.controller;
 
 import com.ahmet.order_management.auth.dto.LoginRequest;
 import com.ahmet.order_management.auth.dto.LoginResponse;
+import com.ahmet.order_management.auth.dto.LogoutRequest;
+import com.ahmet.order_management.auth.dto.RefreshTokenRequest;
 import com.ahmet.order_management.auth.dto.RegisterRequest;
 import com.ahmet.order_management.auth.service.AuthService;
 import com.ahmet.order_management.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -24,10 +30,29 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    @Operation(summary = "Kullanıcı Girişi", description = "Kullanıcı adı ve şifre ile token alır.")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "Giriş başarılı"));
+    @Operation(summary = "Kullanıcı Girişi", description = "Kullanıcı adı ve şifre ile token alır. Doğrulama kuyruğu doluysa veya çok fazla başarısız deneme varsa 429 döner.")
+    public CompletableFuture<ResponseEntity<ApiResponse<LoginResponse>>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        // Doğrulama ayrı havuzda sürerken Tomcat thread'i serbest kalır (MVC async)
+        return authService.login(request, httpRequest.getRemoteAddr())
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Giriş başarılı")));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Token Yenileme", description = "Refresh token ile yeni access/refresh token çifti alır. Refresh token tek kullanımlıktır.")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success(response, "Token yenilendi"));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Çıkış", description = "İstekteki access token'ı (Authorization header) ve gönderilen refresh token'ı iptal eder.")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            Authentication authentication,
+            @RequestBody(required = false) LogoutRequest request) {
+        authService.logout(authentication, request);
+        return ResponseEntity.ok(ApiResponse.success(null, "Çıkış başarılı"));
     }
 
     @PostMapping("/register")
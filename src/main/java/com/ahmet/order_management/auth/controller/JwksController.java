@@ -0,0 +1,45 @@
+package com.ahmet.order_management.auth.controller;
+
+import com.ahmet.order_management.auth.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWKS Controller
+ * 
+ * JWT doğrulama anahtarlarını standart JWK Set formatında yayınlar.
+ * Diğer servisler token'ları bu servise istek atmadan, cache'ledikleri
+ * public key'ler ile doğrular (header'daki kid ile anahtar seçilir).
+ * 
+ * ApiResponse ile sarılmaz: JWKS istemcileri (Spring Resource Server, API gateway'ler)
+ * RFC 7517 formatını bekler → {"keys": [...]}
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "Giriş işlemleri")
+public class JwksController {
+
+    /**
+     * İstemciler anahtarları bu süre boyunca cache'leyebilir.
+     * Rotation'da yeni anahtar active yapılmadan önce en az bu kadar yayında olmalı.
+     */
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtKeyRing keyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JWT Public Key'leri (JWKS)", description = "Token doğrulama için public anahtarlar. HMAC modunda boş döner.")
+    public ResponseEntity<Map<String, ?>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(keyRing.publicJwks());
+    }
+}
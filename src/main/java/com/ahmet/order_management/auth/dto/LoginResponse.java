@@ -13,9 +13,15 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Kullanıcı giriş yanıtı")
 public class LoginResponse {
 
-    @Schema(description = "JWT Token")
+    @Schema(description = "JWT access token (kısa ömürlü)")
     private String token;
     
+    @Schema(description = "Access token geçerlilik süresi (saniye)", example = "900")
+    private long expiresIn;
+    
+    @Schema(description = "Refresh token (tek kullanımlık, /auth/refresh ile yeni token çifti alınır)")
+    private String refreshToken;
+    
     @Builder.Default
     @Schema(description = "Token tipi", example = "Bearer")
     private String type = "Bearer";
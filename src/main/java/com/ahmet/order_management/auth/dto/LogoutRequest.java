@@ -0,0 +1,18 @@
+package com.ahmet.order_management.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Çıkış isteği")
+public class LogoutRequest {
+
+    @Schema(description = "Refresh token (opsiyonel). Gönderilirse refresh token ailesi de iptal edilir")
+    private String refreshToken;
+}
@@ -0,0 +1,20 @@
+package com.ahmet.order_management.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Access token yenileme isteği")
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token boş olamaz")
+    @Schema(description = "Login veya önceki refresh yanıtındaki refresh token")
+    private String refreshToken;
+}
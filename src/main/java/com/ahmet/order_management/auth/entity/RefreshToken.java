@@ -0,0 +1,76 @@
+package com.ahmet.order_management.auth.entity;
+
+import com.ahmet.order_management.common.entity.BaseEntity;
+import com.ahmet.order_management.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token entity
+ * 
+ * Kısa ömürlü access token'ı yenilemek için kullanılan uzun ömürlü, opak token.
+ * 
+ * - Token'ın kendisi saklanmaz, sadece SHA-256 özeti (tokenHash) saklanır.
+ *   DB sızsa bile refresh token'lar kullanılamaz.
+ * - Rotation: Her kullanımda token "kullanıldı" (usedAt) işaretlenir, aynı aileden yenisi verilir.
+ * - Reuse detection: Kullanılmış bir token tekrar gelirse çalınmış kabul edilir,
+ *   tüm aile (familyId) iptal edilir.
+ * 
+ * Şema: db/migration/V3__refresh_tokens.sql
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = "user")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken extends BaseEntity {
+    
+    /**
+     * Token'ın SHA-256 özeti (hex, 64 karakter)
+     */
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+    
+    /**
+     * Aynı login'den rotation ile türeyen tüm token'lar aynı aileyi paylaşır
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    /**
+     * Rotation ile kullanıldığı zaman (null ise henüz kullanılmadı)
+     */
+    @Column
+    private LocalDateTime usedAt;
+    
+    /**
+     * İptal zamanı (reuse, şifre değişikliği, pasifleştirme)
+     */
+    @Column
+    private LocalDateTime revokedAt;
+    
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ahmet.order_management.auth.repository;
+
+import com.ahmet.order_management.auth.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Refresh Token Repository
+ * 
+ * Custom metodlar:
+ * - findByTokenHash(String) → Refresh isteğinde token'ı bul (satır kilidi ile)
+ * - findFamilyIdByTokenHash(String) → Logout'ta token'ın ailesini bul
+ * - revokeFamily(String, LocalDateTime) → Reuse tespitinde tüm aileyi iptal et
+ * - revokeAllByUserId(Long, LocalDateTime) → Şifre değişikliği / pasifleştirme / silme
+ * - deleteExpired(LocalDateTime) → Süresi dolmuş kayıtları temizle
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    
+    /**
+     * Token özetine göre bul (unique index: idx_refresh_tokens_token_hash)
+     * 
+     * SELECT ... FOR UPDATE: Aynı token ile eşzamanlı iki refresh isteğinden
+     * sadece biri rotation yapabilir, diğeri kullanılmış token görür (reuse).
+     * User aynı sorguda gelir (yeni access token için).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    
+    /**
+     * Sadece aile id'si (kilit ve User yüklemesi olmadan)
+     */
+    @Query("SELECT t.familyId FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<String> findFamilyIdByTokenHash(@Param("tokenHash") String tokenHash);
+    
+    /**
+     * Ailedeki henüz iptal edilmemiş tüm token'ları iptal eder
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+    
+    /**
+     * Kullanıcının tüm refresh token'larını iptal eder
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.user.id = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    /**
+     * Süresi dolmuş token'ları siler
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,124 @@
+package com.ahmet.order_management.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Token Revocation Repository
+ * 
+ * revoked_tokens ve token_not_before tabloları için JDBC erişimi.
+ * 
+ * Neden JPA değil?
+ * - Açılışta milyonlarca satır sadece primitive değer olarak okunur;
+ *   entity oluşturmak ve persistence context'te tutmak gereksiz bellek demek.
+ * - Satırlar RowCallbackHandler ile tek tek işlenir, liste oluşturulmaz.
+ * 
+ * Şema: db/migration/V4__token_revocations.sql
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationRepository {
+    
+    /**
+     * Açılışta okuma için JDBC fetch size (PostgreSQL server-side cursor, transaction içinde)
+     */
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Token'ı iptal listesine ekler (aynı jti tekrar gelirse yok sayılır)
+     */
+    public void revokeToken(long jti, Long userId, Instant expiresAt, Instant revokedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (jti) DO NOTHING
+                """, jti, userId, Timestamp.from(expiresAt), Timestamp.from(revokedAt));
+    }
+    
+    /**
+     * Kullanıcının not-before zamanını ayarlar (daha eski bir değer yazılamaz)
+     */
+    public void upsertNotBefore(long userId, Instant notBefore, Instant updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO token_not_before (user_id, not_before, updated_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (user_id) DO UPDATE
+                SET not_before = GREATEST(token_not_before.not_before, EXCLUDED.not_before),
+                    updated_at = EXCLUDED.updated_at
+                """, userId, Timestamp.from(notBefore), Timestamp.from(updatedAt));
+    }
+    
+    /**
+     * Süresi dolmamış ve verilen zamandan sonra iptal edilmiş jti'leri okur
+     * 
+     * since = Instant.EPOCH → açılışta tam yükleme
+     * Transaction içinde çalışır; aksi halde PostgreSQL sürücüsü fetch size'ı yok sayıp
+     * tüm sonucu belleğe alır.
+     * 
+     * readOnly DEĞİL: readOnly transaction'lar replica'ya gider (ReplicaRoutingDataSource).
+     * Geride kalan bir replica'dan okunursa sync() penceresini (SYNC_OVERLAP) kaçıran iptaller
+     * saatlik yeniden kuruluma kadar hiç görülmezdi; okuma primary'den yapılır.
+     */
+    @Transactional
+    public void forEachRevokedToken(Instant since, Instant now, RevokedTokenHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("""
+                    SELECT jti, revoked_at FROM revoked_tokens
+                    WHERE revoked_at >= ? AND expires_at > ?
+                    """);
+            statement.setFetchSize(LOAD_FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.from(since));
+            statement.setTimestamp(2, Timestamp.from(now));
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getTimestamp(2).toInstant()));
+    }
+    
+    /**
+     * Verilen zamandan sonra güncellenmiş not-before kayıtlarını okur
+     * 
+     * Transaction dışı JDBC primary'yi kullanır (bkz. forEachRevokedToken); replica'ya
+     * taşınmamalı.
+     */
+    public void forEachNotBefore(Instant since, NotBeforeHandler handler) {
+        jdbcTemplate.query("""
+                SELECT user_id, not_before, updated_at FROM token_not_before
+                WHERE updated_at >= ?
+                """,
+                (RowCallbackHandler) rs -> handler.handle(
+                        rs.getLong(1), rs.getTimestamp(2).toInstant(), rs.getTimestamp(3).toInstant()),
+                Timestamp.from(since));
+    }
+    
+    /**
+     * Süresi dolmuş iptal kayıtlarını siler (artık token zaten geçersiz)
+     */
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", Timestamp.from(now));
+    }
+    
+    /**
+     * Artık hiçbir geçerli token'ı etkilemeyen not-before kayıtlarını siler
+     * (cutoff = now - access token ömrü)
+     */
+    public int deleteNotBeforeOlderThan(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM token_not_before WHERE not_before < ?", Timestamp.from(cutoff));
+    }
+    
+    @FunctionalInterface
+    public interface RevokedTokenHandler {
+        void handle(long jti, Instant revokedAt);
+    }
+    
+    @FunctionalInterface
+    public interface NotBeforeHandler {
+        void handle(long userId, Instant notBefore, Instant updatedAt);
+    }
+}
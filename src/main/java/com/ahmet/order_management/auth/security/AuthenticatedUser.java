@@ -0,0 +1,80 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.user.entity.Role;
+import com.ahmet.order_management.user.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated User (Giriş yapmış kullanıcı)
+ *
+ * SecurityContext'te tutulan hafif ve değiştirilemez (immutable) principal.
+ * User entity'sinden farklı olarak Hibernate'e bağlı değildir,
+ * bu yüzden JWT claim'lerinden DB'ye gitmeden oluşturulabilir.
+ *
+ * - JWT'den oluşturulduğunda password null'dır.
+ * - Controller'lardaki Principal.getName() → username döner.
+ */
+@Getter
+@Builder
+@ToString(exclude = "password")
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    @With // Rehash sonrası yeni hash ile kopya (CustomUserDetailsService.updatePassword)
+    private final String password;
+    private final Role role;
+    private final Long organizationId;
+    private final long tokenVersion;
+    private final boolean active;
+
+    /**
+     * Entity -> Principal
+     * Organization lazy olsa bile sadece id okunduğu için ekstra sorgu atılmaz.
+     */
+    public static AuthenticatedUser from(User user) {
+        return AuthenticatedUser.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .organizationId(user.getOrganization().getId())
+                .tokenVersion(user.getTokenVersion())
+                .active(Boolean.TRUE.equals(user.getActive()))
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ahmet.order_management.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * BCrypt Cost Calibrator (BCrypt maliyet kalibrasyonu)
+ *
+ * BCrypt'te her maliyet (strength) artışı hash süresini ikiye katlar.
+ * Sabit bir değer yerine, uygulama başlarken bu makinede hedef süreyi
+ * aşmayan en yüksek maliyet ölçülerek seçilir.
+ *
+ * Algoritma:
+ * 1. minStrength ile birkaç hash alınır, medyan süre ölçülür
+ * 2. Bir sonraki maliyetin tahmini süresi (2x) hedefi aşmıyorsa maliyet artırılır ve tekrar ölçülür
+ * 3. Hedefi aşmayan son maliyet seçilir (en az minStrength)
+ *
+ * Toplam kalibrasyon süresi yaklaşık 2 x hedef x SAMPLES kadardır.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-Password-123";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Hedef süreye uyan maliyeti döner
+     *
+     * @param target      Tek hash için hedef süre (örn: 250ms)
+     * @param minStrength Alt sınır; mevcut hash'lerden daha zayıf maliyete düşülmez
+     * @param maxStrength Üst sınır
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        long targetNanos = target.toNanos();
+
+        // JIT ısınması (ilk ölçüm yanıltıcı derecede yavaş olur)
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        long measured = measure(strength);
+
+        while (strength < maxStrength && measured * 2 <= targetNanos) {
+            strength++;
+            measured = measure(strength);
+        }
+
+        // Son adım hedefi aştıysa bir geri çekil (tahmin tutmayabilir)
+        if (measured > targetNanos && strength > minStrength) {
+            strength--;
+            measured /= 2;
+        }
+
+        log.info("BCrypt maliyeti kalibre edildi: strength={}, ~{}ms/hash (hedef: {}ms)",
+                strength, Duration.ofNanos(measured).toMillis(), target.toMillis());
+
+        return strength;
+    }
+
+    /**
+     * Verilen maliyette medyan hash süresi (nanosaniye)
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long[] samples = new long[SAMPLES];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,224 @@
+package com.ahmet.order_management.auth.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT Key Ring (İmzalama anahtarları)
+ *
+ * - HMAC (varsayılan): jwt.secret ile imzalanır, kid yok (eski davranış;
+ *   algoritma anahtar uzunluğundan seçilir, 64 byte → HS512).
+ * - RS256 / ES256 / EdDSA: Token private key ile imzalanır, header'a kid yazılır.
+ *   Diğer servisler sadece public key ile (JWKS: /.well-known/jwks.json) doğrulayabilir;
+ *   imzalama sırrını bilmeleri gerekmez.
+ *
+ * Tüm anahtarlar açılışta bir kez parse edilir; doğrulamada kid → PublicKey
+ * map'inden okunur (istek başına PEM/KeyFactory işlemi yok).
+ *
+ * Kesintisiz rotation:
+ * 1. Yeni anahtarı tüm node'lara sadece public-key ile ekle (JWKS'te yayınlanır)
+ * 2. Private key'i ekleyip active-kid'i yeni anahtara çevir
+ * 3. Eski anahtarı en uzun token ömrü (jwt.expiration) geçtikten sonra kaldır
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    public static final String HMAC = "HMAC";
+
+    private final SigningKey signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final SecretKey legacyHmacKey;
+    private final Instant legacyHmacUntil;
+    private final Map<String, ?> publicJwks;
+
+    public JwtKeyRing(JwtKeyProperties properties, @Value("${jwt.secret}") String secret) {
+        SecretKey hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        String algorithm = properties.getAlgorithm();
+
+        if (HMAC.equalsIgnoreCase(algorithm)) {
+            this.signingKey = new SigningKey(null, hmacKey, null);
+            this.verificationKeys = Map.of();
+            this.legacyHmacKey = hmacKey;
+            this.legacyHmacUntil = Instant.MAX;
+            this.publicJwks = Map.of("keys", List.of());
+            log.info("JWT imzalama: HMAC (jwt.secret)");
+            return;
+        }
+
+        Map<String, Key> publicKeys = new LinkedHashMap<>();
+        List<Jwk<?>> jwks = new ArrayList<>();
+        SigningKey active = null;
+
+        List<JwtKeyProperties.Key> configured = properties.getKeys();
+        if (configured.isEmpty()) {
+            active = ephemeralKey(algorithm, publicKeys, jwks);
+        }
+
+        for (JwtKeyProperties.Key key : configured) {
+            SignatureAlgorithm keyAlgorithm = signatureAlgorithm(
+                    StringUtils.hasText(key.getAlgorithm()) ? key.getAlgorithm() : algorithm);
+            PublicKey publicKey = (PublicKey) parsePem(key.getPublicKey(), keyAlgorithm, false);
+
+            publicKeys.put(key.getKid(), publicKey);
+            jwks.add(toJwk(key.getKid(), publicKey, keyAlgorithm));
+
+            if (key.getPrivateKey() != null) {
+                boolean isActive = StringUtils.hasText(properties.getActiveKid())
+                        ? properties.getActiveKid().equals(key.getKid())
+                        : active == null;
+                if (isActive) {
+                    PrivateKey privateKey = (PrivateKey) parsePem(key.getPrivateKey(), keyAlgorithm, true);
+                    active = new SigningKey(key.getKid(), privateKey, keyAlgorithm);
+                }
+            }
+        }
+
+        if (active == null) {
+            throw new IllegalStateException("JWT imzalama anahtarı bulunamadı: active-kid="
+                    + properties.getActiveKid() + " için private-key tanımlı değil");
+        }
+
+        this.signingKey = active;
+        this.verificationKeys = Map.copyOf(publicKeys);
+        this.legacyHmacUntil = properties.getAcceptLegacyHmacUntil();
+        this.legacyHmacKey = legacyHmacUntil != null ? hmacKey : null;
+        // JwkSet yerine düz map: jjwt set içeriğini (özel anahtar içerebileceği için) serileştirmede gizler
+        this.publicJwks = Map.of("keys", jwks.stream().map(LinkedHashMap::new).toList());
+
+        log.info("JWT imzalama: {} kid={}, doğrulama anahtarları={}, eski HMAC token'lar={}",
+                active.algorithm().getId(), active.kid(), publicKeys.keySet(),
+                legacyHmacKey != null ? legacyHmacUntil + " tarihine kadar kabul" : "red");
+    }
+
+    /**
+     * Yeni token'ları imzalayan anahtar
+     */
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Token header'ındaki kid için doğrulama anahtarı (JwtParser keyLocator)
+     *
+     * kid yoksa eski HMAC anahtarı (accept-legacy-hmac-until geçmediyse) döner.
+     * Bilinmeyen kid için null döner; jjwt token'ı reddeder.
+     */
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            return legacyHmacKey != null && Instant.now().isBefore(legacyHmacUntil) ? legacyHmacKey : null;
+        }
+        return verificationKeys.get(kid);
+    }
+
+    /**
+     * Yayınlanan public anahtarlar (JWKS). HMAC modunda boş (sır yayınlanmaz).
+     */
+    public Map<String, ?> publicJwks() {
+        return publicJwks;
+    }
+
+    /**
+     * Anahtar tanımlanmamışsa geçici bir çift üretir (sadece geliştirme için)
+     */
+    private SigningKey ephemeralKey(String algorithm, Map<String, Key> publicKeys, List<Jwk<?>> jwks) {
+        SignatureAlgorithm signatureAlgorithm = signatureAlgorithm(algorithm);
+        // EdDSA için varsayılan eğri Ed448; daha yaygın ve hızlı olan Ed25519 seçilir
+        KeyPair pair = signatureAlgorithm == Jwts.SIG.EdDSA
+                ? Jwks.CRV.Ed25519.keyPair().build()
+                : signatureAlgorithm.keyPair().build();
+        String kid = "ephemeral-" + UUID.randomUUID();
+
+        log.warn("jwt.signing.keys tanımlı değil, geçici {} anahtarı üretildi (kid={}). "
+                + "Token'lar yeniden başlatmada ve diğer node'larda geçersiz olur!", algorithm, kid);
+
+        publicKeys.put(kid, pair.getPublic());
+        jwks.add(toJwk(kid, pair.getPublic(), signatureAlgorithm));
+        return new SigningKey(kid, pair.getPrivate(), signatureAlgorithm);
+    }
+
+    private static Jwk<?> toJwk(String kid, PublicKey publicKey, SignatureAlgorithm algorithm) {
+        return Jwks.builder()
+                .key(publicKey)
+                .id(kid)
+                .algorithm(algorithm.getId())
+                .publicKeyUse("sig")
+                .build();
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String id) {
+        return switch (id.toUpperCase()) {
+            case "RS256" -> Jwts.SIG.RS256;
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EDDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalStateException("Desteklenmeyen JWT algoritması: " + id);
+        };
+    }
+
+    private static String keyFactoryAlgorithm(SignatureAlgorithm algorithm) {
+        if (algorithm == Jwts.SIG.RS256) {
+            return "RSA";
+        }
+        if (algorithm == Jwts.SIG.ES256) {
+            return "EC";
+        }
+        return "EdDSA"; // Ed25519 ve Ed448
+    }
+
+    /**
+     * PEM → Key (PKCS#8 private / X.509 public)
+     */
+    private static Key parsePem(Resource resource, SignatureAlgorithm algorithm, boolean privateKey) {
+        if (resource == null) {
+            throw new IllegalStateException("JWT public-key tanımlı değil");
+        }
+        try {
+            String pem = resource.getContentAsString(StandardCharsets.US_ASCII);
+            byte[] der = Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm(algorithm));
+
+            return privateKey
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(der))
+                    : keyFactory.generatePublic(new X509EncodedKeySpec(der));
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT anahtarı okunamadı: " + resource, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT anahtarı geçersiz: " + resource, e);
+        }
+    }
+
+    /**
+     * İmzalama anahtarı, kid ve algoritması
+     * HMAC modunda kid ve algorithm null (algoritma anahtardan seçilir).
+     */
+    public record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+}
@@ -0,0 +1,253 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Login Attempt Throttle (Brute-force koruması)
+ *
+ * Her başarısız login bir BCrypt doğrulamasına (~100ms CPU) mal olur. Tek bir kullanıcı adına
+ * veya tek bir IP'den gelen credential stuffing patlaması bu yüzden hash havuzunu doldurur.
+ *
+ * Kullanıcı adı ve client IP başına kayan pencerede (sliding window) deneme sayılır.
+ * Limit aşılmışsa istek hash havuzuna ve veritabanına hiç ulaşmadan 429 ile reddedilir
+ * (maliyet: bir cache okuması).
+ *
+ * Kontrol ve sayma tek adımdır (tryAcquire): deneme havuza gönderilmeden önce pencerede
+ * bir yer ayırır. Sonuç beklenmeden sayıldığı için aynı kullanıcı adına paralel gelen
+ * bir patlamada da en fazla max-failures deneme hash'lenir.
+ * - Başarısız: ayrılan yer hata olarak kalır
+ * - Başarılı veya kimlik doğrulama dışı hata (DB, havuz dolu): yer geri verilir
+ *
+ * - Kullanıcı adı: auth.login.throttle.username.* (varsayılan 15 dk'da 5 hata)
+ * - IP:            auth.login.throttle.ip.*       (varsayılan 15 dk'da 50 hata)
+ * - Başarılı login kullanıcı adı sayacını sıfırlar; IP sayacındaki diğer hatalar silinmez
+ *   (saldırgan kendi hesabıyla giriş yaparak IP sayacını temizleyemesin)
+ * - Sayaçlar bounded Caffeine cache'te tutulur (max-entries); pencere dolunca düşer
+ *
+ * Metrikler:
+ * - auth.login.throttled{scope=username|ip} → hash'lenmeden reddedilen denemeler
+ * - auth.login.throttle.entries             → takip edilen anahtar sayısı
+ */
+@Component
+@Slf4j
+public class LoginAttemptThrottle {
+
+    private final boolean enabled;
+    private final Policy usernamePolicy;
+    private final Policy ipPolicy;
+    private final Cache<String, AttemptWindow> windows;
+
+    public LoginAttemptThrottle(
+            @Value("${auth.login.throttle.enabled:true}") boolean enabled,
+            @Value("${auth.login.throttle.username.max-failures:5}") int usernameMaxFailures,
+            @Value("${auth.login.throttle.username.window:15m}") Duration usernameWindow,
+            @Value("${auth.login.throttle.ip.max-failures:50}") int ipMaxFailures,
+            @Value("${auth.login.throttle.ip.window:15m}") Duration ipWindow,
+            @Value("${auth.login.throttle.max-entries:100000}") long maxEntries,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.usernamePolicy = new Policy("u:", usernameMaxFailures, usernameWindow,
+                throttledCounter(meterRegistry, "username"));
+        this.ipPolicy = new Policy("ip:", ipMaxFailures, ipWindow,
+                throttledCounter(meterRegistry, "ip"));
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(usernameWindow.compareTo(ipWindow) > 0 ? usernameWindow : ipWindow)
+                .build();
+
+        Gauge.builder("auth.login.throttle.entries", windows, Cache::estimatedSize)
+                .description("Başarısız login takibi yapılan kullanıcı adı / IP sayısı")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash ve DB işinden önce çağrılır; izin verilirse denemeyi pencereye yazar
+     *
+     * @return Sonuç bilinince success(), failure() veya release() çağrılmalı
+     * @throws TooManyRequestsException Kullanıcı adı veya IP geçici olarak engelliyse
+     */
+    public Attempt tryAcquire(String username, String clientIp) {
+        if (!enabled) {
+            return Attempt.NONE;
+        }
+
+        long now = System.nanoTime();
+        String usernameKey = usernamePolicy.key(normalize(username));
+        String ipKey = ipPolicy.key(clientIp);
+
+        long waitNanos = usernamePolicy.tryReserve(windows, usernameKey, now);
+        if (waitNanos == 0) {
+            waitNanos = ipPolicy.tryReserve(windows, ipKey, now);
+            if (waitNanos > 0) {
+                usernamePolicy.release(windows, usernameKey, now);
+            }
+        }
+
+        if (waitNanos > 0) {
+            log.warn("Login engellendi (çok fazla başarısız deneme): username={}, ip={}", username, clientIp);
+            throw new TooManyRequestsException(
+                    "Çok fazla başarısız giriş denemesi, lütfen daha sonra tekrar deneyin",
+                    TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        }
+
+        return new Attempt(this, usernameKey, ipKey, now);
+    }
+
+    /**
+     * Büyük/küçük harf varyasyonlarıyla sayacın atlatılmasını engeller
+     */
+    private static String normalize(String username) {
+        return username == null ? null : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.login.throttled")
+                .description("Brute-force koruması nedeniyle hash'lenmeden reddedilen login denemeleri")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * tryAcquire ile açılan bir deneme
+     *
+     * Sonuç bir kez bildirilir; sonraki çağrılar etkisizdir.
+     */
+    public static final class Attempt {
+
+        static final Attempt NONE = new Attempt(null, null, null, 0);
+
+        private final LoginAttemptThrottle throttle;
+        private final String usernameKey;
+        private final String ipKey;
+        private final long reservedAt;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Attempt(LoginAttemptThrottle throttle, String usernameKey, String ipKey, long reservedAt) {
+            this.throttle = throttle;
+            this.usernameKey = usernameKey;
+            this.ipKey = ipKey;
+            this.reservedAt = reservedAt;
+        }
+
+        /**
+         * Başarılı login: kullanıcı adı sayacı sıfırlanır, IP'deki bu deneme geri verilir
+         */
+        public void success() {
+            if (complete()) {
+                if (usernameKey != null) {
+                    throttle.windows.invalidate(usernameKey);
+                }
+                throttle.ipPolicy.release(throttle.windows, ipKey, reservedAt);
+            }
+        }
+
+        /**
+         * Hatalı şifre / kullanıcı: ayrılan yer hata olarak kalır
+         */
+        public void failure() {
+            complete();
+        }
+
+        /**
+         * Kimlik doğrulama dışı hata (DB, havuz dolu): deneme sayılmaz
+         */
+        public void release() {
+            if (complete()) {
+                throttle.usernamePolicy.release(throttle.windows, usernameKey, reservedAt);
+                throttle.ipPolicy.release(throttle.windows, ipKey, reservedAt);
+            }
+        }
+
+        private boolean complete() {
+            return throttle != null && completed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Bir kapsam (kullanıcı adı veya IP) için limit
+     */
+    private record Policy(String prefix, int maxFailures, Duration window, Counter throttled) {
+
+        /**
+         * Limit uygulanmıyorsa null
+         */
+        String key(String value) {
+            return value == null || maxFailures <= 0 ? null : prefix + value;
+        }
+
+        /**
+         * @return 0 ise yer ayrıldı; aksi halde engelin kalkmasına kalan süre (ns)
+         */
+        long tryReserve(Cache<String, AttemptWindow> windows, String key, long now) {
+            if (key == null) {
+                return 0;
+            }
+
+            long wait = windows.get(key, k -> new AttemptWindow(maxFailures)).tryReserve(now, window.toNanos());
+            if (wait > 0) {
+                throttled.increment();
+            }
+            return wait;
+        }
+
+        void release(Cache<String, AttemptWindow> windows, String key, long reservedAt) {
+            if (key == null) {
+                return;
+            }
+
+            AttemptWindow attempts = windows.getIfPresent(key);
+            if (attempts != null) {
+                attempts.release(reservedAt);
+            }
+        }
+    }
+
+    /**
+     * Pencere içindeki deneme zamanları (sliding window log)
+     *
+     * Hem sonuçlanmış hatalar hem de sonucu beklenen (hash'lenmekte olan) denemeler tutulur.
+     * En fazla maxFailures eleman olur; bellek anahtar başına sabittir.
+     */
+    private static final class AttemptWindow {
+
+        private final int maxAttempts;
+        private final ArrayDeque<Long> timestamps;
+
+        AttemptWindow(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            this.timestamps = new ArrayDeque<>(maxAttempts);
+        }
+
+        /**
+         * @return 0 ise yer ayrıldı; aksi halde en eski denemenin pencereden çıkmasına kalan süre (ns)
+         */
+        synchronized long tryReserve(long now, long windowNanos) {
+            while (!timestamps.isEmpty() && now - timestamps.peekFirst() >= windowNanos) {
+                timestamps.pollFirst();
+            }
+            if (timestamps.size() >= maxAttempts) {
+                return Math.max(1, timestamps.peekFirst() + windowNanos - now);
+            }
+            timestamps.addLast(now);
+            return 0;
+        }
+
+        synchronized void release(long reservedAt) {
+            timestamps.removeLastOccurrence(reservedAt);
+        }
+    }
+}
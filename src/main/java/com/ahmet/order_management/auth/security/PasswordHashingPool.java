@@ -0,0 +1,78 @@
+package com.ahmet.order_management.auth.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Hashing Pool (Toplu şifre hash'leme havuzu)
+ *
+ * BCrypt CPU yoğun bir işlemdir (her hash ~50-100ms).
+ * Toplu import'ta binlerce şifreyi tek thread'de hash'lemek yerine
+ * sınırlı sayıda thread'e dağıtılır.
+ *
+ * - Thread sayısı sınırlı (user.bulk-import.hash-threads, varsayılan: CPU / 2),
+ *   böylece import sırasında diğer isteklere CPU kalır.
+ * - Kuyruk dolarsa iş çağıran thread'de çalışır (CallerRunsPolicy) → doğal geri basınç.
+ *
+ * Not: Executor bean'i olarak tanımlanmadı; aksi halde Spring Boot'un
+ * varsayılan applicationTaskExecutor'u devre dışı kalırdı.
+ */
+@Component
+@Slf4j
+public class PasswordHashingPool {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingPool(
+            PasswordEncoder passwordEncoder,
+            @Value("${user.bulk-import.hash-threads:0}") int configuredThreads) {
+        this.passwordEncoder = passwordEncoder;
+
+        int threads = configuredThreads > 0
+                ? configuredThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        log.info("Toplu şifre hash havuzu oluşturuldu: threads={}", threads);
+    }
+
+    /**
+     * Şifreleri paralel hash'ler, sonuçları aynı sırada döner
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> futures = rawPasswords.stream()
+                .map(raw -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(raw), executor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
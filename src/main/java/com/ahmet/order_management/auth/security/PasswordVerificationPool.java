@@ -0,0 +1,134 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Password Verification Pool (Login şifre doğrulama havuzu)
+ *
+ * BCrypt doğrulaması CPU yoğundur. Login patlamasında Tomcat thread'lerinin
+ * hepsi hash hesaplamaya kilitlenir ve diğer API istekleri bekler.
+ * Doğrulama bu yüzden ayrı, sınırlı bir havuzda çalışır:
+ *
+ * - Thread sayısı sınırlı (auth.login.verify-threads, varsayılan: CPU / 2)
+ * - Kuyruk sınırlı (auth.login.queue-capacity); dolarsa anında 429 döner
+ * - Kuyrukta max-queue-wait'ten fazla bekleyen iş hash'lenmeden 429 ile düşer
+ *   (istemci büyük ihtimalle zaten vazgeçmiştir)
+ *
+ * Metrikler (/actuator/metrics):
+ * - auth.password.verify      → doğrulama süresi (kullanıcı yükleme + BCrypt)
+ * - auth.password.queue.wait  → kuyrukta bekleme süresi
+ * - auth.password.rejected    → reddedilen istekler (reason=queue_full|queue_timeout)
+ * - auth.password.queue.size, auth.password.active
+ *
+ * Not: Executor bean'i olarak tanımlanmadı (bkz. PasswordHashingPool).
+ */
+@Component
+@Slf4j
+public class PasswordVerificationPool {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor executor;
+    private final Duration maxQueueWait;
+    private final Timer verifyTimer;
+    private final Timer queueWaitTimer;
+    private final Counter queueFullCounter;
+    private final Counter queueTimeoutCounter;
+
+    public PasswordVerificationPool(
+            @Value("${auth.login.verify-threads:0}") int configuredThreads,
+            @Value("${auth.login.queue-capacity:100}") int queueCapacity,
+            @Value("${auth.login.max-queue-wait:2s}") Duration maxQueueWait,
+            MeterRegistry meterRegistry) {
+        this.maxQueueWait = maxQueueWait;
+
+        int threads = configuredThreads > 0
+                ? configuredThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-verify-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifyTimer = Timer.builder("auth.password.verify")
+                .description("Login şifre doğrulama süresi")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Doğrulama işinin kuyrukta bekleme süresi")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("auth.password.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.queueTimeoutCounter = Counter.builder("auth.password.rejected")
+                .tag("reason", "queue_timeout")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Login doğrulama havuzu oluşturuldu: threads={}, queueCapacity={}, maxQueueWait={}",
+                threads, queueCapacity, maxQueueWait);
+    }
+
+    /**
+     * Doğrulama işini havuza verir.
+     *
+     * @throws TooManyRequestsException Kuyruk doluysa (çağıran thread'de, anında)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> verification) {
+        long enqueuedAt = System.nanoTime();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+
+                if (waited > maxQueueWait.toNanos()) {
+                    queueTimeoutCounter.increment();
+                    throw new TooManyRequestsException(
+                            "Giriş servisi şu anda yoğun, lütfen tekrar deneyin", RETRY_AFTER_SECONDS);
+                }
+
+                return verifyTimer.record(verification);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            log.warn("Login doğrulama kuyruğu dolu, istek reddedildi: queueSize={}", executor.getQueue().size());
+            throw new TooManyRequestsException(
+                    "Giriş servisi şu anda yoğun, lütfen tekrar deneyin", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
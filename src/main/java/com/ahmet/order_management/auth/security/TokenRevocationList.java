@@ -0,0 +1,234 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.auth.repository.TokenRevocationRepository;
+import com.ahmet.order_management.common.util.LongBloomFilter;
+import com.ahmet.order_management.common.util.LongHashSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Token Revocation List (Access token iptal listesi)
+ *
+ * Access token'lar claim'lerden doğrulanır; süresi dolmadan geçersiz kılmak için
+ * iki tür kayıt bellekte tutulur:
+ * - jti: Tek tek iptal edilen token'lar (logout)
+ * - not-before: Kullanıcının bu zamandan önce üretilmiş tüm token'ları (admin "tüm oturumları kapat")
+ *
+ * Her istekte çağrıldığı için kontrol ucuz olmalı:
+ * 1. Bloom filter (kilitsiz, birkaç bit okuması) → token'ların çok büyük kısmı burada "yok" cevabı alır
+ * 2. Sadece Bloom "belki" derse primitive long kümesine (LongHashSet) read lock ile bakılır
+ * 3. not-before: userId → epoch saniye, ConcurrentHashMap
+ *
+ * Kalıcılık: revoked_tokens / token_not_before tabloları (V4).
+ * - Açılışta tamamı yüklenir
+ * - jwt.revocation.sync-interval-ms aralığıyla diğer node'ların iptalleri okunur
+ * - Saatlik yeniden kurulum: süresi dolmuş jti'ler bellekten ve DB'den atılır,
+ *   Bloom filter gerçek eleman sayısına göre yeniden boyutlanır
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    /** Node'lar arası saat farkı için senkronizasyonda geriye bakma payı */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final TokenRevocationRepository repository;
+    private final long expectedIds;
+    private final double falsePositiveRate;
+    private final long accessTokenTtlMillis;
+    private final Counter rejectedCounter;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Snapshot snapshot;
+    private final Map<Long, Long> notBeforeByUser = new ConcurrentHashMap<>();
+
+    private volatile Instant lastTokenSync = Instant.EPOCH;
+    private volatile Instant lastNotBeforeSync = Instant.EPOCH;
+
+    public TokenRevocationList(
+            TokenRevocationRepository repository,
+            @Value("${jwt.revocation.expected-ids:1000000}") long expectedIds,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.expiration}") long accessTokenTtlMillis,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.expectedIds = expectedIds;
+        this.falsePositiveRate = falsePositiveRate;
+        this.accessTokenTtlMillis = accessTokenTtlMillis;
+        this.snapshot = new Snapshot(new LongBloomFilter(expectedIds, falsePositiveRate), new LongHashSet(16));
+
+        this.rejectedCounter = Counter.builder("jwt.revocation.rejected")
+                .description("İptal listesine takılan token'lar")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.ids", this, list -> list.snapshot.ids().size())
+                .description("Bellekteki iptal edilmiş jti sayısı")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.users", notBeforeByUser, Map::size)
+                .description("not-before kaydı olan kullanıcı sayısı")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Açılışta iptal kayıtlarını DB'den yükler
+     */
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Token iptal edilmiş mi? (her istekte, JwtAuthenticationFilter)
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        boolean revoked = isJtiRevoked(token.getTokenId()) || isBeforeNotBefore(token);
+        if (revoked) {
+            rejectedCounter.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Tek bir token'ı süresi dolana kadar iptal eder (logout)
+     *
+     * @return Token jti taşımıyorsa (eski token) false
+     */
+    public boolean revoke(VerifiedToken token) {
+        if (token.getTokenId() == null || token.getExpiresAt() == null) {
+            return false;
+        }
+
+        repository.revokeToken(token.getTokenId(), token.getUserId(), token.getExpiresAt(), Instant.now());
+        addJti(token.getTokenId());
+
+        log.info("Access token iptal edildi: userId={}, jti={}", token.getUserId(), token.getTokenId());
+        return true;
+    }
+
+    /**
+     * Kullanıcının şu ana kadar üretilmiş tüm access token'larını iptal eder
+     *
+     * iat saniye hassasiyetinde olduğu için sınır bir sonraki saniyeye yuvarlanır;
+     * bu saniye içinde alınan yeni token'lar da (en fazla 1 sn) geçersiz sayılır.
+     */
+    public void revokeAllBefore(long userId) {
+        Instant now = Instant.now();
+        long notBefore = now.getEpochSecond() + 1;
+
+        repository.upsertNotBefore(userId, Instant.ofEpochSecond(notBefore), now);
+        notBeforeByUser.merge(userId, notBefore, Math::max);
+
+        log.info("Kullanıcının tüm access token'ları iptal edildi: userId={}", userId);
+    }
+
+    /**
+     * Diğer node'larda yapılan iptalleri okur
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        Instant now = Instant.now();
+
+        Instant tokenSince = lastTokenSync.minus(SYNC_OVERLAP);
+        repository.forEachRevokedToken(tokenSince, now, (jti, revokedAt) -> addJti(jti));
+        lastTokenSync = now;
+
+        Instant notBeforeSince = lastNotBeforeSync.minus(SYNC_OVERLAP);
+        repository.forEachNotBefore(notBeforeSince,
+                (userId, notBefore, updatedAt) -> notBeforeByUser.merge(userId, notBefore.getEpochSecond(), Math::max));
+        lastNotBeforeSync = now;
+    }
+
+    /**
+     * Bellekteki yapıları DB'den baştan kurar, süresi dolmuş kayıtları temizler
+     */
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        long started = System.nanoTime();
+
+        int deleted = repository.deleteExpired(now);
+        Instant notBeforeCutoff = now.minusMillis(accessTokenTtlMillis);
+        repository.deleteNotBeforeOlderThan(notBeforeCutoff);
+
+        // Önce tam sayıyı bilmeden geçici kümeye oku, sonra Bloom'u gerçek boyuta göre kur
+        LongHashSet ids = new LongHashSet((int) Math.min(expectedIds, 1 << 20));
+        repository.forEachRevokedToken(Instant.EPOCH, now, (jti, revokedAt) -> ids.add(jti));
+
+        LongBloomFilter bloom = new LongBloomFilter(Math.max(expectedIds, ids.size() * 2L), falsePositiveRate);
+        ids.forEach(bloom::put);
+
+        long stamp = lock.writeLock();
+        try {
+            snapshot = new Snapshot(bloom, ids);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        notBeforeByUser.values().removeIf(notBefore -> notBefore < notBeforeCutoff.getEpochSecond());
+        lastTokenSync = now;
+
+        // Yeniden kurulum sırasında yapılan iptaller (bu node'da veya diğerlerinde)
+        sync();
+
+        log.info("Token iptal listesi yüklendi: jti={}, users={}, bloom={}KB, expiredDeleted={}, {}ms",
+                ids.size(), notBeforeByUser.size(), bloom.sizeInBytes() / 1024, deleted,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private boolean isJtiRevoked(Long jti) {
+        if (jti == null) {
+            return false;
+        }
+
+        Snapshot current = snapshot;
+        if (!current.bloom().mightContain(jti)) {
+            return false; // Hızlı yol: kilit yok
+        }
+
+        long stamp = lock.readLock();
+        try {
+            return snapshot.ids().contains(jti);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean isBeforeNotBefore(VerifiedToken token) {
+        if (token.getUserId() == null || token.getIssuedAt() == null || notBeforeByUser.isEmpty()) {
+            return false;
+        }
+
+        Long notBefore = notBeforeByUser.get(token.getUserId());
+        return notBefore != null && token.getIssuedAt().getEpochSecond() < notBefore;
+    }
+
+    private void addJti(long jti) {
+        long stamp = lock.writeLock();
+        try {
+            Snapshot current = snapshot;
+            if (current.ids().add(jti)) {
+                current.bloom().put(jti);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Bloom filter + küme birlikte değiştirilir
+     */
+    private record Snapshot(LongBloomFilter bloom, LongHashSet ids) {
+    }
+}
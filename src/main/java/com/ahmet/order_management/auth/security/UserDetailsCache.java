@@ -0,0 +1,76 @@
+package com.ahmet.order_management.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * User Details Cache (Kullanıcı principal cache'i)
+ *
+ * CustomUserDetailsService her login'de ve eski token'larda DB'ye gidiyordu.
+ * Kullanıcı kayıtları nadiren değiştiği için username -> AuthenticatedUser
+ * eşlemesi burada tutulur.
+ *
+ * - Değiştirilemez AuthenticatedUser saklanır (Hibernate entity'si paylaşılmaz).
+ * - Boyut ve TTL sınırlı (security.user-cache.*).
+ * - UserServiceImpl kullanıcıyı değiştiren her işlemden sonra evict() çağırır;
+ *   böylece pasif edilen kullanıcı anında kilitlenir.
+ * - İstatistikler: /actuator/metrics/cache.gets?tag=cache:userDetails
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    public static final String CACHE_NAME = "userDetails";
+
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public UserDetailsCache(
+            @Value("${security.user-cache.max-size:10000}") long maxSize,
+            @Value("${security.user-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Cache'te varsa döner, yoksa loader ile yükler (loader exception'ı cache'lenmez)
+     */
+    public AuthenticatedUser get(String username, Function<String, AuthenticatedUser> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Kullanıcıyı cache'ten çıkarır.
+     *
+     * Transaction içindeysek commit sonrası tekrar çıkarılır; aksi halde commit'ten önce
+     * başka bir istek eski satırı okuyup cache'e geri koyabilirdi.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+        log.debug("UserDetails cache'ten çıkarıldı: username={}", username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.user.entity.Role;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Verified Token (Doğrulanmış token)
+ *
+ * JwtUtil.verify() tarafından imza ve süre kontrolünden SONRA oluşturulan,
+ * değiştirilemez (immutable) claim görünümü.
+ *
+ * Bir istekte token sadece bir kez parse edilir; sonraki tüm okumalar
+ * bu objeden yapılır (tekrar HMAC / JSON çözme yok).
+ *
+ * Stateless claim'leri (uid, org, role, ver) olmayan eski token'larda
+ * bu alanlar null'dır.
+ */
+@Value
+@Builder
+public class VerifiedToken {
+
+    String subject;
+    /** jti claim'i (64-bit). İptal listesi anahtarı, eski token'larda null */
+    Long tokenId;
+    Long userId;
+    Long organizationId;
+    Role role;
+    Long tokenVersion;
+    Instant issuedAt;
+    Instant expiresAt;
+
+    /**
+     * Token, DB'ye gitmeden principal oluşturmak için gereken claim'leri taşıyor mu?
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && organizationId != null && role != null && tokenVersion != null;
+    }
+
+    /**
+     * Claim'lerden principal oluşturur. Eski token'lar için null döner.
+     */
+    public AuthenticatedUser toPrincipal() {
+        if (!hasPrincipalClaims()) {
+            return null;
+        }
+
+        return AuthenticatedUser.builder()
+                .id(userId)
+                .username(subject)
+                .role(role)
+                .organizationId(organizationId)
+                .tokenVersion(tokenVersion)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.common.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Verified Token Cache (Doğrulanmış token cache'i)
+ *
+ * Aynı bearer token token ömrü boyunca binlerce kez gönderilir.
+ * Her seferinde HMAC doğrulaması ve JSON çözme yapmak yerine,
+ * daha önce doğrulanmış token'lar burada tutulur.
+ *
+ * - Anahtar: token'ın SHA-256 özeti (ham token bellekte tutulmaz).
+ *   Sadece imza kısmı anahtar yapılamaz; payload değiştirilmiş bir token cache'ten geçerdi.
+ * - Her kayıt token'ın exp zamanında otomatik düşer.
+ * - Boyut sınırlı (jwt.token-cache.max-size), istatistikler /actuator/metrics altında:
+ *   cache.gets{cache=jwtVerifiedTokens,result=hit|miss}, cache.evictions
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "jwtVerifiedTokens";
+
+    /** exp claim'i olmayan token'lar için üst sınır */
+    private static final Duration MAX_TTL = Duration.ofHours(24);
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.token-cache.max-size:50000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Token cache'te varsa döner, yoksa verifier ile doğrulayıp cache'e koyar.
+     * Doğrulama hatası (imza, süre) cache'lenmez, exception olarak çağırana gider.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(HashUtil.sha256Hex(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Token'ı cache'ten çıkarır (iptal edilen / versiyonu eskimiş token'lar için)
+     */
+    public void evict(String token) {
+        cache.invalidate(HashUtil.sha256Hex(token));
+    }
+
+    /**
+     * Her kaydın ömrü = token'ın kalan süresi
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Instant expiresAt = value.getExpiresAt();
+            if (expiresAt == null) {
+                return MAX_TTL.toNanos();
+            }
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), MAX_TTL.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
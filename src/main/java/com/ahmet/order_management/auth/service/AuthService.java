@@ -2,8 +2,16 @@ package com.ahmet.order_management.auth.service;
 
 import com.ahmet.order_management.auth.dto.LoginRequest;
 import com.ahmet.order_management.auth.dto.LoginResponse;
+import com.ahmet.order_management.auth.dto.LogoutRequest;
+import com.ahmet.order_management.auth.dto.RefreshTokenRequest;
 import com.ahmet.order_management.auth.dto.RegisterRequest;
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.LoginAttemptThrottle;
+import com.ahmet.order_management.auth.security.PasswordVerificationPool;
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.auth.security.VerifiedToken;
 import com.ahmet.order_management.common.exception.BusinessException;
+import com.ahmet.order_management.common.exception.UnauthorizedException;
 import com.ahmet.order_management.common.util.JwtUtil;
 import com.ahmet.order_management.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -22,10 +33,46 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final com.ahmet.order_management.user.service.IUserService userService;
+    private final PasswordVerificationPool passwordVerificationPool;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final LoginAttemptThrottle loginAttemptThrottle;
 
-    public LoginResponse login(LoginRequest request) {
+    /**
+     * Login
+     *
+     * Şifre doğrulaması (BCrypt) Tomcat thread'inde değil PasswordVerificationPool'da çalışır.
+     * Havuz doluysa TooManyRequestsException (429) anında fırlatılır.
+     *
+     * Kullanıcı adı veya IP çok fazla başarısız deneme yaptıysa istek havuza
+     * ve veritabanına hiç ulaşmadan 429 ile reddedilir (LoginAttemptThrottle).
+     * Deneme havuza gönderilmeden sayılır; sonuç beklenirken gelen paralel denemeler de limite takılır.
+     */
+    public CompletableFuture<LoginResponse> login(LoginRequest request, String clientIp) {
         log.info("Login denemesi: {}", request.getUsername());
 
+        LoginAttemptThrottle.Attempt attempt = loginAttemptThrottle.tryAcquire(request.getUsername(), clientIp);
+
+        CompletableFuture<LoginResponse> result;
+        try {
+            result = passwordVerificationPool.submit(() -> authenticate(request, attempt));
+        } catch (RuntimeException e) {
+            // Havuz dolu: deneme hash'lenmedi, sayılmaz
+            attempt.release();
+            throw e;
+        }
+
+        // Kuyrukta max-queue-wait aşıldıysa authenticate() hiç çalışmaz; deneme sayılmamalı.
+        // authenticate() çalıştıysa sonuç zaten bildirilmiştir, release() etkisizdir.
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                attempt.release();
+            }
+        });
+        return result;
+    }
+
+    private LoginResponse authenticate(LoginRequest request, LoginAttemptThrottle.Attempt attempt) {
         try {
             // 1. Kullanıcı adı ve şifre doğrulaması (Spring Security yapar)
             Authentication authentication = authenticationManager.authenticate(
@@ -33,30 +80,88 @@ public class AuthService {
             );
 
             // 2. Başarılı ise token üret
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(userDetails);
+            // Principal, CustomUserDetailsService'ten gelen AuthenticatedUser'dır
+            AuthenticatedUser userDetails = (AuthenticatedUser) authentication.getPrincipal();
 
-            // 3. User rolünü al (entity'den veya userDetails'den)
-            // UserDetails'den role almak daha güvenli (GrantedAuthority'den)
-            String role = userDetails.getAuthorities().stream()
-                    .findFirst()
-                    .map(item -> item.getAuthority())
-                    .orElse("ROLE_USER");
+            // 3. Yeni refresh token ailesi başlat
+            String refreshToken = refreshTokenService.issue(userDetails.getId());
 
+            attempt.success();
             log.info("Login başarılı: {}", request.getUsername());
 
-            return LoginResponse.builder()
-                    .token(token)
-                    .username(request.getUsername())
-                    .role(role)
-                    .build();
+            return buildResponse(userDetails, refreshToken);
 
         } catch (Exception e) {
+            // Sadece kimlik doğrulama hataları sayılır (DB hatası vb. brute-force değildir)
+            if (e instanceof AuthenticationException) {
+                attempt.failure();
+            } else {
+                attempt.release();
+            }
             log.warn("Login başarısız: {} - Hata: {}", request.getUsername(), e.getMessage());
             throw new BusinessException("Kullanıcı adı veya şifre hatalı");
         }
     }
 
+    /**
+     * Refresh token ile yeni access + refresh token çifti üretir (rotation)
+     *
+     * Kullanılan refresh token geçersiz olur. Aynı token tekrar gönderilirse
+     * tüm aile iptal edilir ve kullanıcı yeniden giriş yapmak zorunda kalır.
+     */
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        return buildResponse(rotation.principal(), rotation.refreshToken());
+    }
+
+    /**
+     * Logout
+     *
+     * - İstekteki access token süresi dolana kadar iptal listesine eklenir (jti)
+     * - Refresh token gönderildiyse ailesi iptal edilir
+     *
+     * @throws UnauthorizedException Ne geçerli bir access token ne de refresh token varsa
+     */
+    public void logout(Authentication authentication, LogoutRequest request) {
+        boolean revoked = false;
+
+        if (authentication != null && authentication.getCredentials() instanceof VerifiedToken token) {
+            revoked = tokenRevocationList.revoke(token);
+        }
+
+        if (request != null && StringUtils.hasText(request.getRefreshToken())) {
+            revoked |= refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        if (!revoked) {
+            throw new UnauthorizedException("Çıkış yapılacak oturum bulunamadı");
+        }
+
+        log.info("Logout: {}", authentication != null ? authentication.getName() : "refresh token");
+    }
+
+    /**
+     * Access token üretir ve yanıtı oluşturur
+     * Rol, id, organizasyon ve token versiyonu claim olarak eklenir (stateless doğrulama için)
+     */
+    private LoginResponse buildResponse(AuthenticatedUser userDetails, String refreshToken) {
+        String token = jwtUtil.generateToken(userDetails);
+
+        // UserDetails'den role almak daha güvenli (GrantedAuthority'den)
+        String role = userDetails.getAuthorities().stream()
+                .findFirst()
+                .map(item -> item.getAuthority())
+                .orElse("ROLE_USER");
+
+        return LoginResponse.builder()
+                .token(token)
+                .expiresIn(jwtUtil.getExpirationSeconds())
+                .refreshToken(refreshToken)
+                .username(userDetails.getUsername())
+                .role(role)
+                .build();
+    }
+
     public String register(RegisterRequest request) {
         log.info("Yeni kullanıcı kaydı: {}", request.getUsername());
         
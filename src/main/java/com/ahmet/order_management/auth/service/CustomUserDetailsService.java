@@ -1,29 +1,67 @@
 package com.ahmet.order_management.auth.service;
 
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.UserDetailsCache;
 import com.ahmet.order_management.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 /**
  * Custom User Details Service
- * 
+ *
  * Spring Security'nin user bulma mekanizmasını override ediyoruz.
  * Standart "in-memory user" yerine bizim veritabanımızdan bakacak.
+ *
+ * Sonuçlar UserDetailsCache'te tutulur, DB'ye sadece cache'te yoksa gidilir.
+ *
+ * UserDetailsPasswordService: Login başarılı olduğunda hash eski algoritma/maliyetteyse
+ * DaoAuthenticationProvider yeni hash ile updatePassword'ü çağırır (şeffaf rehash).
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Repository'den user'ı bul, yoksa hata fırlat
-        // User entity'miz UserDetails implement ettiği için direkt dönebiliriz
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + username));
+        // Entity yerine değiştirilemez bir kopyası (AuthenticatedUser) cache'lenir
+        return userDetailsCache.get(username, key -> userRepository.findByUsername(key)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + key)));
+    }
+
+    /**
+     * Şifre hash'ini günceller (şifrenin kendisi değişmez, sadece yeniden hash'lenir)
+     *
+     * Token versiyonu artırılmaz, mevcut oturumlar geçerli kalır.
+     * Güncelleme başarısız olursa login engellenmez; bir sonraki login'de tekrar denenir.
+     *
+     * Not: Metod @Transactional değildir. UPDATE kendi transaction'ında çalışır
+     * (UserRepository.updatePassword); hata o transaction'ı geri alır ve burada yakalanır.
+     * Dış bir transaction olsaydı rollback-only işaretlenir, commit'te login düşerdi.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            userRepository.updatePassword(user.getUsername(), newPassword);
+            userDetailsCache.evict(user.getUsername());
+            log.info("Şifre hash'i güncel maliyete yükseltildi: {}", user.getUsername());
+        } catch (RuntimeException e) {
+            log.warn("Şifre hash'i yükseltilemedi: {} - Hata: {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+
+        return user instanceof AuthenticatedUser authenticatedUser
+                ? authenticatedUser.withPassword(newPassword)
+                : user;
     }
 }
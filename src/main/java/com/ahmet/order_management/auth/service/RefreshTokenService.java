@@ -0,0 +1,153 @@
+package com.ahmet.order_management.auth.service;
+
+import com.ahmet.order_management.auth.entity.RefreshToken;
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.repository.RefreshTokenRepository;
+import com.ahmet.order_management.common.exception.UnauthorizedException;
+import com.ahmet.order_management.common.util.HashUtil;
+import com.ahmet.order_management.user.entity.User;
+import com.ahmet.order_management.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Refresh Token Service
+ *
+ * Access token'lar kısa ömürlü (jwt.expiration, dakikalar) ve sadece claim'lerden doğrulanır;
+ * istek başına DB'ye gidilmez. Uzun ömürlü oturum refresh token ile sürdürülür:
+ *
+ * - issue():  Login'de yeni bir aile başlatır
+ * - rotate(): Token'ı tek kullanımlık olarak tüketir, aynı aileden yenisini verir
+ * - Kullanılmış veya iptal edilmiş token tekrar gelirse (reuse) tüm aile iptal edilir;
+ *   çalınan token ile meşru kullanıcıdan hangisi önce gelirse gelsin diğeri düşer.
+ * - revokeAll(): Şifre değişikliği, pasifleştirme, silme
+ *
+ * Böylece iptal edilen bir kullanıcı en fazla bir access token ömrü kadar erişebilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    /**
+     * Login sonrası yeni bir refresh token ailesi başlatır
+     *
+     * @return Ham refresh token (sadece istemciye döner, DB'de özeti saklanır)
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return create(userRepository.getReferenceById(userId), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Refresh token'ı tüketir ve aynı aileden yenisini üretir.
+     *
+     * Reuse tespitinde aile iptali commit edilmeli, bu yüzden
+     * UnauthorizedException transaction'ı geri almaz.
+     *
+     * @throws UnauthorizedException Token bulunamadı, süresi dolmuş, kullanılmış/iptal edilmiş
+     *                               veya kullanıcı artık aktif değil
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+
+        RefreshToken current = refreshTokenRepository.findByTokenHash(HashUtil.sha256Hex(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Geçersiz refresh token"));
+
+        if (current.getUsedAt() != null || current.getRevokedAt() != null) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token tekrar kullanıldı, aile iptal edildi: userId={}, familyId={}, revoked={}",
+                    current.getUser().getId(), current.getFamilyId(), revoked);
+            throw new UnauthorizedException("Refresh token geçersiz, lütfen tekrar giriş yapın");
+        }
+
+        if (current.isExpired(now)) {
+            throw new UnauthorizedException("Refresh token süresi dolmuş, lütfen tekrar giriş yapın");
+        }
+
+        User user = current.getUser();
+        if (!Boolean.TRUE.equals(user.getActive()) || user.getDeletedAt() != null) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new UnauthorizedException("Kullanıcı aktif değil");
+        }
+
+        current.setUsedAt(now);
+        String next = create(user, current.getFamilyId());
+
+        log.debug("Refresh token yenilendi: userId={}, familyId={}", user.getId(), current.getFamilyId());
+
+        return new Rotation(AuthenticatedUser.from(user), next);
+    }
+
+    /**
+     * Refresh token'ın ailesini iptal eder (logout)
+     *
+     * @return Token bulunduysa true
+     */
+    @Transactional
+    public boolean revoke(String rawToken) {
+        Optional<String> familyId = refreshTokenRepository.findFamilyIdByTokenHash(HashUtil.sha256Hex(rawToken));
+        familyId.ifPresent(id -> refreshTokenRepository.revokeFamily(id, LocalDateTime.now()));
+        return familyId.isPresent();
+    }
+
+    /**
+     * Kullanıcının tüm refresh token'larını iptal eder
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        log.info("Kullanıcının refresh token'ları iptal edildi: userId={}, count={}", userId, revoked);
+    }
+
+    /**
+     * Süresi dolmuş token'ları temizler (her gece)
+     */
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Süresi dolmuş refresh token'lar silindi: {}", deleted);
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(HashUtil.sha256Hex(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000))
+                .build());
+
+        return rawToken;
+    }
+
+    /**
+     * Rotation sonucu: token sahibi (güncel rol/versiyon ile) ve yeni refresh token
+     */
+    public record Rotation(AuthenticatedUser principal, String refreshToken) {
+    }
+}
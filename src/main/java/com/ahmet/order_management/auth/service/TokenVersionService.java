@@ -0,0 +1,108 @@
+package com.ahmet.order_management.auth.service;
+
+import com.ahmet.order_management.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token Version Service
+ *
+ * Stateless JWT modunda token'ın hâlâ geçerli olup olmadığını
+ * her istekte DB'ye gitmeden kontrol eder.
+ *
+ * Nasıl çalışır?
+ * - Her kullanıcının güncel token versiyonu kısa süreli (TTL) bellekte tutulur.
+ * - Süre dolunca tek kolonluk bir sorgu ile yenilenir (kullanıcı başına, istek başına değil).
+ * - Bu node'daki değişiklikler (şifre değişimi, silme) anında yansır,
+ *   diğer node'larda en fazla TTL kadar gecikme olur.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionService {
+
+    /** Kullanıcı pasif/silinmiş ise cache'e yazılan değer. Hiçbir token ile eşleşmez. */
+    public static final long REVOKED = -1L;
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.version-check.ttl:60000}")
+    private long ttlMillis;
+
+    @Value("${jwt.version-check.max-entries:100000}")
+    private int maxEntries;
+
+    private final Map<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Token içindeki versiyon kullanıcının güncel versiyonu ile aynı mı?
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(userId);
+
+        if (cached == null || cached.expiresAt() < now) {
+            cached = load(userId, now);
+        }
+
+        return cached.version() == tokenVersion;
+    }
+
+    /**
+     * Kullanıcının yeni versiyonunu bu node'da anında geçerli kılar.
+     * UserServiceImpl tarafından kritik değişikliklerden sonra çağrılır.
+     * 
+     * Transaction içindeysek commit sonrası tekrar yazılır; böylece commit'ten önce
+     * DB'den okunmuş eski bir değer cache'te kalamaz.
+     */
+    public void update(Long userId, long newVersion) {
+        put(userId, new CachedVersion(newVersion, System.currentTimeMillis() + ttlMillis));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(userId, new CachedVersion(newVersion, System.currentTimeMillis() + ttlMillis));
+                }
+            });
+        }
+    }
+
+    /**
+     * Kullanıcının tüm token'larını geçersiz kılar (silme, devre dışı bırakma).
+     */
+    public void revoke(Long userId) {
+        update(userId, REVOKED);
+    }
+
+    private CachedVersion load(Long userId, long now) {
+        long version = userRepository.findActiveTokenVersion(userId).orElse(REVOKED);
+        log.debug("Token versiyonu DB'den yüklendi: userId={}, version={}", userId, version);
+
+        CachedVersion loaded = new CachedVersion(version, now + ttlMillis);
+        put(userId, loaded);
+        return loaded;
+    }
+
+    private void put(Long userId, CachedVersion value) {
+        if (versions.size() >= maxEntries) {
+            // Önce süresi dolmuşları at, yine de doluysa tamamen temizle (sadece fazladan DB okuması demek)
+            long now = System.currentTimeMillis();
+            versions.values().removeIf(v -> v.expiresAt() < now);
+            if (versions.size() >= maxEntries) {
+                versions.clear();
+            }
+        }
+        versions.put(userId, value);
+    }
+
+    private record CachedVersion(long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.ahmet.order_management.common.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Soft Delete Archive Job
+ * 
+ * deletedAt'i saklama süresinden (archive.soft-deleted.retention) eski kullanıcı ve
+ * organizasyonları arşiv tablolarına taşır. Canlı tablolar ve index'leri böylece
+ * sadece canlı satırlarla sınırlı kalır.
+ * 
+ * Canlı trafiği etkilememek için:
+ * - Küçük batch'ler (batch-size), her biri ayrı ve kısa bir transaction
+ * - Batch'ler arasında bekleme (pause)
+ * - Bir çalışmada en fazla max-batches batch; kalan satırlar sonraki çalışmaya kalır
+ * - SKIP LOCKED + lock_timeout (bkz. SoftDeleteArchiveRepository)
+ * 
+ * Metrikler:
+ * - soft.delete.archived{table}        → arşivlenen satır sayısı
+ * - soft.delete.archive.duration{table} → batch süresi
+ */
+@Component
+@ConditionalOnProperty(name = "archive.soft-deleted.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SoftDeleteArchiveJob {
+    
+    private final SoftDeleteArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final Duration lockTimeout;
+    private final MeterRegistry meterRegistry;
+    
+    public SoftDeleteArchiveJob(
+            SoftDeleteArchiveRepository archiveRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${archive.soft-deleted.retention:30d}") Duration retention,
+            @Value("${archive.soft-deleted.batch-size:500}") int batchSize,
+            @Value("${archive.soft-deleted.max-batches:200}") int maxBatches,
+            @Value("${archive.soft-deleted.pause:200ms}") Duration pause,
+            @Value("${archive.soft-deleted.lock-timeout:2s}") Duration lockTimeout,
+            MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.lockTimeout = lockTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Scheduled(cron = "${archive.soft-deleted.cron:0 0 4 * * *}")
+    public void run() {
+        Instant deletedBefore = Instant.now().minus(retention);
+        
+        // Önce kullanıcılar: organizasyon ancak bağlı kullanıcısı kalmayınca arşivlenebilir
+        long users = archive("users", archiveRepository::archiveUsers, deletedBefore);
+        long organizations = archive("organizations", archiveRepository::archiveOrganizations, deletedBefore);
+        
+        if (users > 0 || organizations > 0) {
+            log.info("Soft delete arşivleme tamamlandı: users={}, organizations={}, deletedBefore={}",
+                    users, organizations, deletedBefore);
+        }
+    }
+    
+    private long archive(String table, BatchArchiver archiver, Instant deletedBefore) {
+        Counter archived = Counter.builder("soft.delete.archived")
+                .description("Arşiv tablosuna taşınan silinmiş satırlar")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer duration = Timer.builder("soft.delete.archive.duration")
+                .description("Arşivleme batch süresi")
+                .tag("table", table)
+                .register(meterRegistry);
+        
+        long total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved;
+            try {
+                moved = duration.record(() -> transactionTemplate.execute(status ->
+                        archiver.archive(deletedBefore, batchSize, lockTimeout)));
+            } catch (DataAccessException e) {
+                // Örn: lock_timeout aşıldı; sonraki çalışmada tekrar denenir
+                log.warn("Arşivleme batch'i başarısız, çalışma durduruldu: table={}, hata={}", table, e.getMessage());
+                break;
+            }
+            
+            archived.increment(moved);
+            total += moved;
+            
+            if (moved < batchSize || !sleep()) {
+                break;
+            }
+        }
+        return total;
+    }
+    
+    @FunctionalInterface
+    private interface BatchArchiver {
+        int archive(Instant deletedBefore, int batchSize, Duration lockTimeout);
+    }
+    
+    /**
+     * Batch'ler arasında bekler
+     * 
+     * @return false ise thread kesildi (uygulama kapanıyor)
+     */
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
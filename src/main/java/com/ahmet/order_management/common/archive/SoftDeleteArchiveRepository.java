@@ -0,0 +1,96 @@
+package com.ahmet.order_management.common.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Soft Delete Archive Repository
+ * 
+ * Silinmiş satırları tek SQL ifadesiyle canlı tablodan arşiv tablosuna taşır:
+ * 
+ *   WITH batch AS (SELECT id ... FOR UPDATE SKIP LOCKED LIMIT ?)
+ *   , moved AS (DELETE ... RETURNING *)
+ *   INSERT INTO ..._archive SELECT ... FROM moved
+ * 
+ * - SKIP LOCKED: Canlı bir transaction'ın kilitlediği satır atlanır, beklenmez
+ *   (sonraki çalışmada alınır). Birden fazla node aynı anda çalışsa da çakışmaz.
+ * - lock_timeout: Cascade silinen tablolarda (refresh_tokens, token_not_before)
+ *   kilit beklenirse batch kısa sürede vazgeçer, canlı trafiği bekletmez.
+ * - Organizasyonlar, tablolarda kendisine bağlı kullanıcı kalmadıysa arşivlenir
+ *   (users.organization_id foreign key).
+ * 
+ * Her çağrı çağıranın transaction'ında çalışmalıdır (bkz. SoftDeleteArchiveJob).
+ * Şema: db/migration/V6__soft_delete_archive.sql
+ */
+@Repository
+@RequiredArgsConstructor
+public class SoftDeleteArchiveRepository {
+    
+    private static final String ARCHIVE_USERS = """
+            WITH batch AS (
+                SELECT id FROM users
+                WHERE deleted_at < ?
+                ORDER BY deleted_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM users u USING batch b
+                WHERE u.id = b.id
+                RETURNING u.*
+            )
+            INSERT INTO users_archive (id, created_at, updated_at, deleted_at, username, email, password,
+                                       full_name, role, active, token_version, organization_id, archived_at)
+            SELECT id, created_at, updated_at, deleted_at, username, email, password,
+                   full_name, role, active, token_version, organization_id, ?
+            FROM moved
+            """;
+    
+    private static final String ARCHIVE_ORGANIZATIONS = """
+            WITH batch AS (
+                SELECT o.id FROM organizations o
+                WHERE o.deleted_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM users u WHERE u.organization_id = o.id)
+                ORDER BY o.deleted_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM organizations o USING batch b
+                WHERE o.id = b.id
+                RETURNING o.*
+            )
+            INSERT INTO organizations_archive (id, created_at, updated_at, deleted_at, name, description,
+                                               active, archived_at)
+            SELECT id, created_at, updated_at, deleted_at, name, description, active, ?
+            FROM moved
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Bir batch kullanıcıyı arşivler
+     * 
+     * @return Taşınan satır sayısı (batchSize'dan azsa arşivlenecek satır kalmamıştır)
+     */
+    public int archiveUsers(Instant deletedBefore, int batchSize, Duration lockTimeout) {
+        return archive(ARCHIVE_USERS, deletedBefore, batchSize, lockTimeout);
+    }
+    
+    /**
+     * Bir batch organizasyonu arşivler
+     */
+    public int archiveOrganizations(Instant deletedBefore, int batchSize, Duration lockTimeout) {
+        return archive(ARCHIVE_ORGANIZATIONS, deletedBefore, batchSize, lockTimeout);
+    }
+    
+    private int archive(String sql, Instant deletedBefore, int batchSize, Duration lockTimeout) {
+        // Sadece bu transaction için geçerli (commit/rollback'te sıfırlanır)
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+        
+        return jdbcTemplate.update(sql, Timestamp.from(deletedBefore), batchSize, Timestamp.from(Instant.now()));
+    }
+}
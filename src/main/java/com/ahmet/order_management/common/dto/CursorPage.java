@@ -0,0 +1,90 @@
+package com.ahmet.order_management.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cursor (keyset) tabanlı sayfa.
+ *
+ * OFFSET yerine "son görülen id'den sonrakiler" sorgulanır:
+ * SELECT ... WHERE id > :cursor ORDER BY id LIMIT :limit
+ * Böylece sayfa numarası ne olursa olsun sorgu primary key index'inden okunur.
+ *
+ * Kullanım:
+ * GET /api/users?limit=20                → ilk sayfa
+ * GET /api/users?cursor=120&limit=20     → nextCursor ile sonraki sayfa
+ *
+ * @param <T> Sayfadaki eleman tipi
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * Sayfadaki kayıtlar
+     */
+    private List<T> items;
+
+    /**
+     * İstenen sayfa boyutu
+     */
+    private int limit;
+
+    /**
+     * Sonraki sayfa için gönderilecek cursor (son kaydın id'si)
+     * Son sayfada null
+     */
+    private Long nextCursor;
+
+    /**
+     * Sonraki sayfa var mı?
+     */
+    private boolean hasNext;
+
+    /**
+     * İstenen limiti 1..MAX_LIMIT aralığına çeker
+     */
+    public static int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Repository'den limit + 1 kayıt çekilmiş listeden sayfa oluşturur.
+     * Fazladan gelen kayıt sadece "sonraki sayfa var mı?" bilgisi için kullanılır.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, ToLongFunction<T> idExtractor) {
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? idExtractor.applyAsLong(items.get(items.size() - 1)) : null;
+
+        return CursorPage.<T>builder()
+                .items(items)
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Entity sayfası -> DTO sayfası
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return CursorPage.<R>builder()
+                .items(items.stream().map(mapper).toList())
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
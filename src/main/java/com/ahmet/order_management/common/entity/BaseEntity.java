@@ -27,10 +27,15 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
     
     /**
-     * Primary Key (otomatik artan)
+     * Primary Key (sequence, pooled)
+     * 
+     * Her tablonun kendi sequence'ı var: users_seq, organizations_seq (increment 50).
+     * Hibernate tek nextval() ile 50 id ayırır ve bunları bellekten dağıtır;
+     * IDENTITY'den farklı olarak INSERT'ler JDBC batch ile gönderilebilir.
+     * Şema: db/migration/V2__pooled_id_sequences.sql
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
     /**
@@ -57,7 +62,10 @@ public abstract class BaseEntity {
      * Soft Delete:
      * - Kayıt database'den silinmez
      * - Sadece deletedAt alanı set edilir
-     * - Sorgularda WHERE deletedAt IS NULL ile filtrelenir
+     * - Entity'lerdeki @SQLRestriction("deleted_at IS NULL") ile tüm JPQL, derived query,
+     *   findById ve ilişki yüklemelerinde otomatik filtrelenir
+     * - Silinmiş kayıtlara sadece native sorgularla ulaşılır (admin: findDeleted, restore)
+     * - Tekillik kısmi index'lerle sağlanır (db/migration/V5__soft_delete_partial_indexes.sql)
      */
     @Column
     private LocalDateTime deletedAt;
@@ -2,6 +2,7 @@ package com.ahmet.order_management.common.exception;
 
 import com.ahmet.order_management.common.dto.ApiResponse;
 import com.ahmet.order_management.common.dto.ErrorDetails;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -84,6 +85,26 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
     
+    /**
+     * TooManyRequestsException yakalanır
+     * HTTP Status: 429 TOO MANY REQUESTS (+ Retry-After)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        ErrorDetails errorDetails = ErrorDetails.builder()
+                .code("TOO_MANY_REQUESTS")
+                .details(ex.getMessage())
+                .build();
+        
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage(), errorDetails);
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (ex.getRetryAfterSeconds() > 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return builder.body(response);
+    }
+    
     /**
      * Validation Exception yakalanır
      * @Valid ile gelen hataları yakalar
@@ -0,0 +1,32 @@
+package com.ahmet.order_management.common.exception;
+
+/**
+ * Kapasite aşıldığında fırlatılan exception.
+ * 
+ * Kullanım Senaryoları:
+ * - Şifre doğrulama havuzu dolu (login patlaması)
+ * - İstek limiti aşıldı
+ * 
+ * HTTP Status: 429 TOO MANY REQUESTS
+ * retryAfterSeconds > 0 ise Retry-After header'ı eklenir.
+ * 
+ * Örnek:
+ * throw new TooManyRequestsException("Çok fazla istek, lütfen tekrar deneyin", 1);
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message) {
+        this(message, 0);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
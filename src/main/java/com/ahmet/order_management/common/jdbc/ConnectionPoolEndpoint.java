@@ -0,0 +1,27 @@
+package com.ahmet.order_management.common.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/pools (ADMIN, SecurityConfig)
+ *
+ * Okuma ve yazma havuzlarının yapılandırması, doluluk özeti
+ * (peak, ortalama, doygun/bekleyen örnek oranı) ve örnek geçmişi.
+ */
+@Component
+@Endpoint(id = "pools")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPoolSampler sampler;
+
+    @ReadOperation
+    public Map<String, ConnectionPoolSampler.PoolReport> pools() {
+        return sampler.report();
+    }
+}
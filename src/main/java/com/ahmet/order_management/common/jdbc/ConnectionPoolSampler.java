@@ -0,0 +1,154 @@
+package com.ahmet.order_management.common.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bağlantı havuzu doluluk geçmişi
+ *
+ * Her Hikari havuzunun (replica havuzları dahil) anlık durumunu (aktif, boşta, bekleyen thread) belirli
+ * aralıklarla örnekler ve son N örneği bellekte tutar (app.datasource.pool-sampling.*).
+ * Havuz boyutu bu veriye göre ayarlanır: bekleyen thread'ler sık görülüyorsa
+ * havuz küçük, aktif bağlantı hiçbir zaman max'a yaklaşmıyorsa büyüktür.
+ *
+ * Micrometer zaten anlık değerleri yayınlar (hikaricp.connections.*); bu sınıf
+ * Prometheus olmayan ortamlarda da geçmişi /actuator/pools üzerinden sunar.
+ */
+@Component
+@Slf4j
+public class ConnectionPoolSampler {
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final Map<String, ArrayDeque<Sample>> history = new LinkedHashMap<>();
+    private final int historySize;
+
+    public ConnectionPoolSampler(
+            Map<String, DataSource> dataSources,
+            @Value("${app.datasource.pool-sampling.history-size:720}") int historySize) {
+        this.historySize = historySize;
+
+        // Proxy'ler arkasındaki fiziksel havuzlar, havuz adına göre tekil
+        for (DataSource dataSource : dataSources.values()) {
+            if (dataSource instanceof ReplicaRoutingDataSource routing) {
+                routing.getReplicaPools().forEach(pool -> pools.putIfAbsent(pool.getPoolName(), pool));
+                continue;
+            }
+            HikariDataSource hikari = unwrap(dataSource);
+            if (hikari != null) {
+                pools.putIfAbsent(hikari.getPoolName(), hikari);
+            }
+        }
+        pools.keySet().forEach(name -> history.put(name, new ArrayDeque<>(historySize)));
+    }
+
+    @Scheduled(fixedRateString = "${app.datasource.pool-sampling.interval:PT5S}")
+    public void sample() {
+        Instant now = Instant.now();
+
+        pools.forEach((name, dataSource) -> {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return; // Havuz henüz başlatılmadı (ilk bağlantı alınmadı)
+            }
+
+            Sample sample = new Sample(now, pool.getActiveConnections(), pool.getIdleConnections(),
+                    pool.getTotalConnections(), pool.getThreadsAwaitingConnection());
+
+            ArrayDeque<Sample> samples = history.get(name);
+            synchronized (samples) {
+                if (samples.size() == historySize) {
+                    samples.removeFirst();
+                }
+                samples.addLast(sample);
+            }
+        });
+    }
+
+    /**
+     * Her havuz için yapılandırma, özet ve örnekler
+     */
+    public Map<String, PoolReport> report() {
+        Map<String, PoolReport> reports = new LinkedHashMap<>();
+
+        pools.forEach((name, dataSource) -> {
+            List<Sample> samples;
+            ArrayDeque<Sample> deque = history.get(name);
+            synchronized (deque) {
+                samples = new ArrayList<>(deque);
+            }
+            reports.put(name, PoolReport.of(dataSource, samples));
+        });
+        return reports;
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            log.debug("DataSource unwrap edilemedi: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public record Sample(Instant time, int active, int idle, int total, int pending) {
+    }
+
+    /**
+     * @param saturatedRatio Aktif bağlantının max'a eşit olduğu örneklerin oranı
+     * @param waitingRatio   En az bir thread'in bağlantı beklediği örneklerin oranı
+     */
+    public record PoolReport(
+            int maximumPoolSize,
+            int minimumIdle,
+            long connectionTimeoutMs,
+            long leakDetectionThresholdMs,
+            boolean readOnly,
+            int peakActive,
+            int peakPending,
+            double averageActive,
+            double saturatedRatio,
+            double waitingRatio,
+            Collection<Sample> samples) {
+
+        static PoolReport of(HikariDataSource dataSource, List<Sample> samples) {
+            int max = dataSource.getMaximumPoolSize();
+            int peakActive = 0;
+            int peakPending = 0;
+            long totalActive = 0;
+            int saturated = 0;
+            int waiting = 0;
+
+            for (Sample sample : samples) {
+                peakActive = Math.max(peakActive, sample.active());
+                peakPending = Math.max(peakPending, sample.pending());
+                totalActive += sample.active();
+                if (sample.active() >= max) {
+                    saturated++;
+                }
+                if (sample.pending() > 0) {
+                    waiting++;
+                }
+            }
+
+            int count = Math.max(1, samples.size());
+            return new PoolReport(max, dataSource.getMinimumIdle(), dataSource.getConnectionTimeout(),
+                    dataSource.getLeakDetectionThreshold(), dataSource.isReadOnly(),
+                    peakActive, peakPending, (double) totalActive / count,
+                    (double) saturated / count, (double) waiting / count, samples);
+        }
+    }
+}
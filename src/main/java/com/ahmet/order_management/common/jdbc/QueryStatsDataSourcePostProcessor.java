@@ -0,0 +1,41 @@
+package com.ahmet.order_management.common.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Fiziksel bağlantı havuzlarını (Hikari) JDBC proxy ile sarar (QueryStatsListener)
+ *
+ * Yönlendirici DataSource'lar (LazyConnectionDataSourceProxy, ReplicaRoutingDataSource)
+ * sarılmaz, sadece arkalarındaki havuzlar sarılır; aksi halde aynı sorgu iki kez sayılırdı. Proxy unwrap() çağrılarını alttaki havuza iletir;
+ * Hikari metrikleri ve health check'ler etkilenmez.
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final QueryStatsListener listener = new QueryStatsListener();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            return wrap(beanName, dataSource);
+        }
+        if (bean instanceof ReplicaRoutingDataSource routing) {
+            routing.decorateReplicas(this::wrap);
+        }
+        return bean;
+    }
+
+    private DataSource wrap(String name, DataSource dataSource) {
+        return ProxyDataSourceBuilder.create(name, dataSource)
+                .listener(listener)
+                .methodListener(listener)
+                .build();
+    }
+}
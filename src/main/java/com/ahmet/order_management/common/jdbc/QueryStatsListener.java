@@ -0,0 +1,59 @@
+package com.ahmet.order_management.common.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * JDBC proxy dinleyicisi (datasource-proxy)
+ *
+ * - Her SQL çalıştırması: sayı + süre (nanosaniye) + SQL metni
+ * - DataSource.getConnection(): Hikari havuzundan bağlantı bekleme süresi
+ *
+ * İstek dışında (zamanlanmış işler vb.) RequestQueryStats yoktur, hiçbir şey yapılmaz.
+ */
+class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.queryStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+            stats.queryFinished(sql, execInfo.isBatch() ? execInfo.getBatchSize() : 0);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && isGetConnection(executionContext)) {
+            stats.connectionRequested();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && isGetConnection(executionContext)) {
+            stats.connectionAcquired();
+        }
+    }
+
+    private static boolean isGetConnection(MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+                && "getConnection".equals(executionContext.getMethod().getName());
+    }
+}
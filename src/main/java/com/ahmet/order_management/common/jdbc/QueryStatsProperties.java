@@ -0,0 +1,57 @@
+package com.ahmet.order_management.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * İstek başına SQL istatistikleri (app.query-stats.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.query-stats")
+public class QueryStatsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * X-Query-Count, X-Query-Time-Ms, X-Connection-Wait-Ms response header'ları (dev)
+     */
+    private boolean headers = true;
+
+    /**
+     * http.server.requests.queries / .db / .connection.wait metrikleri (prod)
+     */
+    private boolean metrics = false;
+
+    /**
+     * Bütçe aşımında log'a yazılacak en fazla SQL sayısı (istek başına bellek sınırı)
+     */
+    private int maxTracedStatements = 100;
+
+    /**
+     * Varsayılan bütçe
+     */
+    private Budget budget = new Budget();
+
+    /**
+     * Endpoint bazlı bütçe (anahtar: URI pattern'i, örn: /api/users/{id})
+     */
+    private Map<String, Budget> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Budget {
+
+        /**
+         * İstek başına en fazla SQL sayısı
+         */
+        private int maxQueries = 20;
+
+        /**
+         * İstek başına en fazla toplam SQL süresi
+         */
+        private Duration maxDbTime = Duration.ofMillis(200);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ahmet.order_management.common.jdbc;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * SQL istatistiklerini response header olarak ekler (dev)
+ *
+ * Body yazılmadan hemen önce çalışır (header'lar ondan sonra eklenemez):
+ * - X-Query-Count
+ * - X-Query-Time-Ms
+ * - X-Connection-Wait-Ms
+ *
+ * Production'da kapalıdır (app.query-stats.headers=false); sorgu sayısı
+ * dışarıya iç yapı hakkında bilgi verir.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = {"app.query-stats.enabled", "app.query-stats.headers"}, havingValue = "true", matchIfMissing = true)
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(stats.getQueryCount()));
+            response.getHeaders().set("X-Query-Time-Ms", String.valueOf(stats.getQueryTimeMillis()));
+            response.getHeaders().set("X-Connection-Wait-Ms", String.valueOf(stats.getConnectionWaitMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ahmet.order_management.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica yönlendirmesi (app.datasource.read.*)
+ *
+ * Havuz ayarları (app.datasource.read.hikari.*) her replica havuzuna ayrı ayrı uygulanır.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read")
+public class ReadReplicaProperties {
+
+    /**
+     * Replica JDBC URL'leri. Boş ise okuma havuzu primary'ye bağlanır (tek replica gibi).
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Bu değerden fazla geride kalan replica'ya okuma gönderilmez
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Replica gecikmesini saniye olarak dönen sorgu (NULL: bilinmiyor → kullanılmaz).
+     * Varsayılan PostgreSQL içindir; replica değilse (pg_is_in_recovery = false) 0 döner.
+     * Gömülü veritabanı ile yerel testte "SELECT 0" verilebilir.
+     */
+    private String lagQuery = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END""";
+
+    /**
+     * Health check sorgusunun zaman aşımı
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Aynı istekte yazma transaction'ı commit edildikten sonraki okumalar primary'ye gider
+     */
+    private boolean readYourWrites = true;
+}
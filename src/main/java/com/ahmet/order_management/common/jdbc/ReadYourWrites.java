@@ -0,0 +1,43 @@
+package com.ahmet.order_management.common.jdbc;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Read-your-writes: Bir HTTP isteğinde yazma transaction'ı commit edildikten sonra
+ * aynı istekteki okumalar primary'ye gider (ReplicaRoutingDataSource).
+ *
+ * Örn: POST /api/users kullanıcıyı kaydettikten sonra yanıt için okuma yaparsa,
+ * henüz replica'ya ulaşmamış satırı bulamama riski olmaz.
+ *
+ * İşaret request attribute'unda tutulur; istek bitince kendiliğinden silinir.
+ * HTTP isteği dışındaki thread'lerde (scheduled job, login havuzu) etkisizdir.
+ */
+@Component
+public class ReadYourWrites implements TransactionExecutionListener {
+
+    private static final String ATTRIBUTE = ReadYourWrites.class.getName() + ".WRITTEN";
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Mevcut istekte yazma commit edildi mi?
+     */
+    static boolean isSticky() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,191 @@
+package com.ahmet.order_management.common.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Okuma bağlantılarını replica'lara dağıtan DataSource
+ *
+ * LazyConnectionDataSourceProxy'nin readOnly hedefidir; yani sadece
+ * @Transactional(readOnly = true) bağlantıları buraya gelir.
+ *
+ * Seçim sırası:
+ * 1. Aynı istekte yazma commit edildiyse (ReadYourWrites) → primary
+ * 2. Sağlıklı ve gecikmesi max-lag altındaki replica'lar arasında round-robin
+ * 3. Uygun replica yoksa veya bağlantı alınamazsa → primary
+ *
+ * Sağlık ve gecikme checkReplicas() ile periyodik ölçülür; ilk kontrol
+ * tamamlanana kadar okumalar primary'ye gider.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final ReadReplicaProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter stickyFallbacks;
+    private final Counter unavailableFallbacks;
+
+    public ReplicaRoutingDataSource(
+            List<HikariDataSource> pools,
+            DataSource primary,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        this.replicas = pools.stream().map(Replica::new).toList();
+        this.primary = primary;
+        this.properties = properties;
+
+        this.stickyFallbacks = Counter.builder("db.replica.fallback")
+                .description("Okumanın primary'ye yönlendirilme sayısı")
+                .tag("reason", "read-your-writes")
+                .register(meterRegistry);
+        this.unavailableFallbacks = Counter.builder("db.replica.fallback")
+                .description("Okumanın primary'ye yönlendirilme sayısı")
+                .tag("reason", "unavailable")
+                .register(meterRegistry);
+
+        for (Replica replica : replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replica gecikmesi (saniye, bilinmiyorsa NaN)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> r.usable ? 1 : 0)
+                    .description("Replica okuma için kullanılıyor mu")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (properties.isReadYourWrites() && ReadYourWrites.isSticky()) {
+            stickyFallbacks.increment();
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.usable) {
+                continue;
+            }
+            try {
+                return replica.target.getConnection();
+            } catch (SQLException e) {
+                // Bir sonraki health check'e kadar devre dışı
+                replica.markUnavailable(e.getMessage());
+            }
+        }
+
+        unavailableFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica havuzları tek bir kullanıcı ile yapılandırılır; farklı kimlik bilgisiyle
+     * istenen bağlantılar primary'den verilir.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Replica havuzlarını sarar (örn: SQL istatistik proxy'si). Primary zaten sarılmış olduğu için
+     * ona dokunulmaz; aksi halde primary'ye düşen okumalar iki kez sayılırdı.
+     */
+    public void decorateReplicas(BiFunction<String, DataSource, DataSource> decorator) {
+        replicas.forEach(replica -> replica.target = decorator.apply(replica.name, replica.target));
+    }
+
+    /**
+     * Fiziksel replica havuzları (havuz doluluk örneklemesi için)
+     */
+    public List<HikariDataSource> getReplicaPools() {
+        return replicas.stream().map(replica -> replica.pool).toList();
+    }
+
+    /**
+     * Her replica'ya lag sorgusunu çalıştırır. Health check bağlantıları doğrudan havuzdan
+     * alınır; istek SQL istatistiklerine karışmaz.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.read.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout((int) Math.max(1, properties.getHealthCheckTimeout().toSeconds()));
+
+                try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                    resultSet.next();
+                    double lag = resultSet.getDouble(1);
+                    replica.update(resultSet.wasNull() ? Double.NaN : lag, properties.getMaxLag().toMillis() / 1000.0);
+                }
+            } catch (SQLException e) {
+                replica.markUnavailable(e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile DataSource target;
+        private volatile boolean usable;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource pool) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+            this.target = pool;
+        }
+
+        private void update(double lag, double maxLagSeconds) {
+            lagSeconds = lag;
+            boolean nowUsable = !Double.isNaN(lag) && lag <= maxLagSeconds;
+
+            if (nowUsable != usable) {
+                if (nowUsable) {
+                    log.info("Replica okumaya açıldı: {} (gecikme={}s)", name, lag);
+                } else {
+                    log.warn("Replica gecikmesi eşiği aştı, okumalar primary'ye gidiyor: {} (gecikme={}s, max={}s)",
+                            name, lag, maxLagSeconds);
+                }
+            }
+            usable = nowUsable;
+        }
+
+        private void markUnavailable(String reason) {
+            if (usable) {
+                log.warn("Replica erişilemiyor, okumalar primary'ye gidiyor: {} ({})", name, reason);
+            }
+            usable = false;
+            lagSeconds = Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ahmet.order_management.common.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek bir HTTP isteğinin SQL istatistikleri
+ *
+ * QueryStatsFilter isteğin başında thread'e bağlar, QueryStatsListener her
+ * SQL ve bağlantı alımında günceller. Sadece isteği işleyen thread yazar;
+ * başka thread'lerde (örn: login doğrulama havuzu) yapılan sorgular sayılmaz.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final int maxTracedStatements;
+    private final List<Statement> trace = new ArrayList<>();
+
+    private int queryCount;
+    private long queryNanos;
+    private long connectionWaitNanos;
+    private long queryStartedAt;
+    private long connectionRequestedAt;
+
+    private RequestQueryStats(int maxTracedStatements) {
+        this.maxTracedStatements = maxTracedStatements;
+    }
+
+    static RequestQueryStats start(int maxTracedStatements) {
+        RequestQueryStats stats = new RequestQueryStats(maxTracedStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Mevcut thread'in istatistikleri (HTTP isteği dışında null)
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void queryStarted() {
+        queryStartedAt = System.nanoTime();
+    }
+
+    void queryFinished(String sql, int batchSize) {
+        long elapsed = System.nanoTime() - queryStartedAt;
+        queryCount++;
+        queryNanos += elapsed;
+
+        if (trace.size() < maxTracedStatements) {
+            trace.add(new Statement(sql, elapsed, batchSize));
+        }
+    }
+
+    void connectionRequested() {
+        connectionRequestedAt = System.nanoTime();
+    }
+
+    void connectionAcquired() {
+        connectionWaitNanos += System.nanoTime() - connectionRequestedAt;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getQueryTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(queryNanos);
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    public long getConnectionWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(connectionWaitNanos);
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    /**
+     * Bütçe aşımı log'u için sorgu listesi
+     */
+    String formatTrace() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < trace.size(); i++) {
+            Statement statement = trace.get(i);
+            builder.append('\n').append(i + 1).append(". [")
+                    .append(TimeUnit.NANOSECONDS.toMicros(statement.nanos()) / 1000.0).append(" ms");
+            if (statement.batchSize() > 0) {
+                builder.append(", batch=").append(statement.batchSize());
+            }
+            builder.append("] ").append(statement.sql());
+        }
+        if (queryCount > trace.size()) {
+            builder.append("\n... ").append(queryCount - trace.size()).append(" sorgu daha");
+        }
+        return builder.toString();
+    }
+
+    private record Statement(String sql, long nanos, int batchSize) {
+    }
+}
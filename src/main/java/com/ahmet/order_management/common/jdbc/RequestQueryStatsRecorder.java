@@ -0,0 +1,96 @@
+package com.ahmet.order_management.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İstek sonu işlemleri: metrikler ve bütçe kontrolü
+ *
+ * Metrikler (app.query-stats.metrics, prod):
+ * - http.server.requests.queries{method, uri}          → istek başına SQL sayısı
+ * - http.server.requests.db{method, uri}               → istek başına toplam SQL süresi
+ * - http.server.requests.connection.wait{method, uri}  → istek başına Hikari bekleme süresi
+ *
+ * Bütçe (app.query-stats.budget / endpoints): SQL sayısı veya süresi aşılırsa
+ * isteğin tüm sorguları süreleriyle birlikte WARN olarak log'lanır (N+1 tespiti).
+ */
+@Component
+@EnableConfigurationProperties(QueryStatsProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestQueryStatsRecorder {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public void begin(int maxTracedStatements) {
+        RequestQueryStats.start(maxTracedStatements);
+    }
+
+    public void end(HttpServletRequest request) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        RequestQueryStats.clear();
+
+        if (stats == null || request.isAsyncStarted()) {
+            return;
+        }
+
+        // Cardinality: gerçek path yerine eşleşen pattern (/api/users/{id})
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        if (properties.isMetrics()) {
+            record(request.getMethod(), uri, stats);
+        }
+
+        checkBudget(request, uri, stats);
+    }
+
+    private void record(String method, String uri, RequestQueryStats stats) {
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("İstek başına SQL sayısı")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getQueryCount());
+        Timer.builder("http.server.requests.db")
+                .description("İstek başına toplam SQL süresi")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getQueryNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.connection.wait")
+                .description("İstek başına bağlantı havuzu bekleme süresi")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(HttpServletRequest request, String uri, RequestQueryStats stats) {
+        QueryStatsProperties.Budget budget = properties.getEndpoints().getOrDefault(uri, properties.getBudget());
+
+        boolean tooManyQueries = stats.getQueryCount() > budget.getMaxQueries();
+        boolean tooSlow = stats.getQueryNanos() > budget.getMaxDbTime().toNanos();
+
+        if (tooManyQueries || tooSlow) {
+            log.warn("SQL bütçesi aşıldı: {} {} (pattern={}) queries={}/{}, dbTime={}ms/{}ms, connectionWait={}ms{}",
+                    request.getMethod(), request.getRequestURI(), uri,
+                    stats.getQueryCount(), budget.getMaxQueries(),
+                    stats.getQueryTimeMillis(), budget.getMaxDbTime().toMillis(),
+                    stats.getConnectionWaitMillis(),
+                    stats.formatTrace());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ahmet.order_management.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Örnekleme (sampling) turbo filtresi
+ *
+ * Logger seviyesi INFO iken, verilen paketlerdeki DEBUG satırlarının sadece bir kısmını
+ * (rate, örn: 0.01 = %1) log'a geçirir. İstek başına yazılan debug satırları
+ * (JwtAuthenticationFilter, servis metodları) üretimde tamamen kaybolmaz ama
+ * her istekte maliyet oluşturmaz.
+ *
+ * - Turbo filtre seviye kontrolünden önce çalışır; seçilmeyen satırlar için mesaj
+ *   formatlanmaz ve appender'a hiç ulaşmaz.
+ * - isDebugEnabled() kontrolleri (format == null) örneklenmez, seviyeye bırakılır.
+ *
+ * logback-spring.xml:
+ * <turboFilter class="com.ahmet.order_management.common.logging.SamplingTurboFilter">
+ *     <loggerPrefix>com.ahmet.order_management</loggerPrefix>
+ *     <rate>0.01</rate>
+ * </turboFilter>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private double rate = 0.01;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || format == null || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix);
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
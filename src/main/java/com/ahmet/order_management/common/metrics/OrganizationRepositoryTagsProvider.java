@@ -0,0 +1,31 @@
+package com.ahmet.order_management.common.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository metriklerine organizasyon etiketi ekler
+ *
+ * Spring Boot her Spring Data repository çağrısını ölçer:
+ *   spring.data.repository.invocations{repository, method, state, exception}
+ * Bu sınıf varsayılan etiketlere çağıranın organizasyonunu ekler
+ * (cardinality sınırı OrganizationTagResolver'da).
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationRepositoryTagsProvider implements RepositoryTagsProvider {
+
+    private final RepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+    private final OrganizationTagResolver organizationTagResolver;
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        return Tags.of(defaults.repositoryTags(invocation))
+                .and(OrganizationTagResolver.TAG, organizationTagResolver.current());
+    }
+}
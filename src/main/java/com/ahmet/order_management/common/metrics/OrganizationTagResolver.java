@@ -0,0 +1,58 @@
+package com.ahmet.order_management.common.metrics;
+
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrik etiketi olarak organizasyon id'si (cardinality korumalı)
+ *
+ * Her farklı etiket değeri Prometheus'ta ayrı bir zaman serisi demektir.
+ * Organizasyon sayısı sınırsız büyüyebileceği için sadece ilk
+ * app.metrics.max-organization-tags organizasyon kendi id'siyle etiketlenir,
+ * sonrakiler "other" altında toplanır.
+ *
+ * - Giriş yapılmamış istek / arka plan işi: "none"
+ */
+@Component
+public class OrganizationTagResolver {
+
+    public static final String TAG = "organization";
+
+    static final String NONE = "none";
+    static final String OTHER = "other";
+
+    private final int maxOrganizations;
+    private final Set<Long> tagged = ConcurrentHashMap.newKeySet();
+
+    public OrganizationTagResolver(@Value("${app.metrics.max-organization-tags:100}") int maxOrganizations) {
+        this.maxOrganizations = maxOrganizations;
+    }
+
+    /**
+     * SecurityContext'teki kullanıcının organizasyonu
+     */
+    public String current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return NONE;
+        }
+        return resolve(user.getOrganizationId());
+    }
+
+    String resolve(Long organizationId) {
+        if (organizationId == null) {
+            return NONE;
+        }
+        // Yarış durumunda sınır en fazla eşzamanlı thread sayısı kadar aşılabilir
+        if (tagged.contains(organizationId) || (tagged.size() < maxOrganizations && tagged.add(organizationId))) {
+            return organizationId.toString();
+        }
+        return OTHER;
+    }
+}
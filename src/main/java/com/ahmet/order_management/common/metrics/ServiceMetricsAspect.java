@@ -0,0 +1,93 @@
+package com.ahmet.order_management.common.metrics;
+
+import com.ahmet.order_management.common.exception.BusinessException;
+import com.ahmet.order_management.common.exception.NotFoundException;
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import com.ahmet.order_management.common.exception.UnauthorizedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Servis metodu metrikleri
+ *
+ * *.service paketlerindeki tüm public metodların süresini ölçer:
+ *
+ *   app.service.invocations{service, method, outcome, organization}
+ *
+ * - outcome: success | client_error (iş kuralı, bulunamadı, yetki, 429) | server_error
+ * - organization: çağıran kullanıcının organizasyonu (bkz. OrganizationTagResolver)
+ * - SLO bucket'ları: management.metrics.distribution.slo.app.service.invocations
+ * - CompletionStage dönen metodlarda (örn: AuthService.login) süre iş bitince kaydedilir
+ *
+ * Repository çağrıları Spring Boot tarafından ölçülür (spring.data.repository.invocations,
+ * bkz. OrganizationRepositoryTagsProvider).
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.metrics.service-timing.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "app.service.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final OrganizationTagResolver organizationTagResolver;
+
+    @Around("within(com.ahmet.order_management..service..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String organization = organizationTagResolver.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, service, method, organization, e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> stop(sample, service, method, organization, error));
+        } else {
+            stop(sample, service, method, organization, null);
+        }
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String service, String method, String organization, Throwable error) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Servis metodu süresi")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome(error))
+                .tag(OrganizationTagResolver.TAG, organization)
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof BusinessException
+                || error instanceof NotFoundException
+                || error instanceof UnauthorizedException
+                || error instanceof TooManyRequestsException) {
+            return "client_error";
+        }
+        return "server_error";
+    }
+}
@@ -0,0 +1,68 @@
+package com.ahmet.order_management.common.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limit ayarları (rate-limit.*)
+ *
+ * Her route grubu için ayrı limitler. Bir grupta tanımlanmayan kapsam (user / organization / ip)
+ * için limit uygulanmaz. İstek, pattern'i eşleşen ilk gruba düşer.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Bellekte tutulacak en fazla bucket sayısı (kullanılmayanlar düşer)
+     */
+    private long maxBuckets = 100_000;
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+
+        /**
+         * Ant pattern'leri (örn: /api/users/**)
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * Giriş yapmış kullanıcı başına
+         */
+        private Limit user;
+
+        /**
+         * Organizasyon (tenant) başına, tüm kullanıcıları toplamı
+         */
+        private Limit organization;
+
+        /**
+         * Client IP başına. Tanımlıysa giriş yapmış isteklere de uygulanır
+         * (örn: /auth/login'e geçerli bir token göndermek IP limitini atlatamaz).
+         */
+        private Limit ip;
+    }
+
+    @Data
+    public static class Limit {
+
+        /**
+         * Anlık izin verilen en fazla istek (burst)
+         */
+        private long capacity;
+
+        /**
+         * Saniyede eklenen token (sürekli hız)
+         */
+        private double refillPerSecond;
+    }
+}
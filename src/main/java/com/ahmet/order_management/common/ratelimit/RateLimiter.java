@@ -0,0 +1,49 @@
+package com.ahmet.order_management.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Rate Limiter (bucket deposu)
+ *
+ * Bucket'lar (grup, kapsam, id) anahtarı ile bounded bir Caffeine cache'te tutulur.
+ * Bir süre istek gelmeyen bucket zaten tamamen dolmuş olacağı için silinmesi
+ * davranışı değiştirmez; bellek aktif kullanıcı/tenant sayısı ile sınırlı kalır.
+ */
+@Component
+public class RateLimiter {
+
+    /** Bu süre boyunca kullanılmayan bucket düşer (en yavaş dolum süresinden uzun olmalı) */
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(IDLE_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * (grup, kapsam, id) bucket'ı; yoksa limit ile oluşturulur
+     */
+    public TokenBucket bucket(String group, Scope scope, Object id, RateLimitProperties.Limit limit) {
+        return buckets.get(new BucketKey(group, scope, id),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond()));
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    public enum Scope {
+        USER, ORGANIZATION, IP
+    }
+
+    private record BucketKey(String group, Scope scope, Object id) {
+    }
+}
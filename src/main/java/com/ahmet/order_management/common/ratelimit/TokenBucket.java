@@ -0,0 +1,65 @@
+package com.ahmet.order_management.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kilitsiz token bucket (GCRA: Generic Cell Rate Algorithm)
+ *
+ * Klasik token bucket "kalan token + son dolum zamanı" iki değer tutar ve
+ * güncellemek için kilit veya obje ayırma gerekir. GCRA aynı davranışı tek bir
+ * long ile ifade eder: bir sonraki isteğin "teorik varış zamanı" (TAT).
+ *
+ * - Her istek TAT'ı bir aralık (1 / refillPerSecond) ileri iter
+ * - TAT şu andan en fazla (capacity - 1) aralık ilerideyse istek kabul edilir (burst)
+ * - Güncelleme tek bir CAS; çekişmede sadece tekrar denenir
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    // nanoTime negatif olabilir; başlangıç "şimdi" (bucket dolu) ve karşılaştırmalar fark üzerinden
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * Math.max(0, capacity - 1);
+    }
+
+    /**
+     * Bir token almayı dener
+     *
+     * @return 0 ise kabul edildi; aksi halde bir sonraki token için beklenmesi gereken süre (ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = tat - nowNanos > 0 ? tat : nowNanos;
+            long waitNanos = start - nowNanos - burstNanos;
+
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Token almadan, şu an alınabilir mi bakar
+     *
+     * @return 0 ise alınabilir; aksi halde beklenmesi gereken süre (ns)
+     */
+    public long waitNanos(long nowNanos) {
+        long tat = theoreticalArrival.get();
+        long start = tat - nowNanos > 0 ? tat : nowNanos;
+        return Math.max(0, start - nowNanos - burstNanos);
+    }
+
+    /**
+     * Alınan bir token'ı geri verir (birden fazla bucket'tan alınırken sonraki reddedilirse)
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ahmet.order_management.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hash Yardımcı Sınıfı
+ *
+ * Token'ların kendisi yerine özetlerini saklamak için kullanılır
+ * (VerifiedTokenCache anahtarı, refresh token deposu).
+ */
+public final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * SHA-256 özeti (hex, 64 karakter)
+     */
+    public static String sha256Hex(String value) {
+        try {
+            // MessageDigest thread-safe değil, her çağrıda yeni instance (ucuz)
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
@@ -1,42 +1,128 @@
 package com.ahmet.order_management.common.util;
 
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.JwtKeyRing;
+import com.ahmet.order_management.auth.security.VerifiedToken;
+import com.ahmet.order_management.user.entity.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 /**
  * JWT Yardımcı Sınıfı (Utility Class)
- * 
+ *
  * Görevleri:
  * 1. Token oluşturmak (generateToken)
- * 2. Token doğrulamak (validateToken)
+ * 2. Token doğrulamak (verify, validateToken)
  * 3. Token'dan bilgi okumak (extractUsername, extractExpiration)
+ * 4. Stateless mod için kullanıcı bilgilerini claim olarak taşımak (extractAuthenticatedUser)
+ *
+ * Anahtarlar JwtKeyRing'den gelir (HMAC veya kid'li RS256/ES256/EdDSA).
+ *
+ * Performans:
+ * - Anahtarlar ve JwtParser uygulama açılışında bir kez oluşturulur.
+ *   İkisi de thread-safe olduğu için tüm isteklerde paylaşılır.
+ * - verify() token'ı tek seferde doğrular ve değiştirilemez bir VerifiedToken döner.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
-    // application.yaml'dan değerleri okuyoruz
-    @Value("${jwt.secret}")
-    private String secret;
+    // Stateless mod claim isimleri (token boyutu için kısa tutuldu)
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ORGANIZATION_ID = "org";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private final JwtKeyRing keyRing;
 
+    // application.yaml'dan değerleri okuyoruz
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    private JwtParser jwtParser;
+
+    /**
+     * Parser'ı bir kez oluştur (her istekte yeniden oluşturmak yerine)
+     * Doğrulama anahtarı token header'ındaki kid ile key ring'den seçilir.
+     */
+    @PostConstruct
+    public void init() {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
     /**
-     * Secret key'i güvenli bir Key objesine çevirir (HMAC-SHA algoritması için)
+     * Token'ı tek seferde doğrular (imza + süre) ve claim'leri döner.
+     *
+     * İmza hatalı veya süresi dolmuşsa jjwt exception (JwtException) fırlatır.
      */
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+
+        String role = claims.get(CLAIM_ROLE, String.class);
+
+        return VerifiedToken.builder()
+                .subject(claims.getSubject())
+                .tokenId(parseTokenId(claims.getId()))
+                .userId(claims.get(CLAIM_USER_ID, Long.class))
+                .organizationId(claims.get(CLAIM_ORGANIZATION_ID, Long.class))
+                .role(role != null ? Role.valueOf(role) : null)
+                .tokenVersion(claims.get(CLAIM_TOKEN_VERSION, Long.class))
+                .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                .build();
+    }
+
+    /**
+     * jti → long. Eski (jti'siz) veya sayısal olmayan jti için null
+     */
+    private static Long parseTokenId(String jti) {
+        if (jti == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(jti);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Token id (jti) üretir: rastgele, pozitif 64-bit sayı.
+     * Gizli olması gerekmez (token imzalı); sadece çakışmaması yeterli.
+     */
+    private static String newTokenId() {
+        return Long.toString(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+    }
+
+    /**
+     * Access token geçerlilik süresi (saniye), istemciye expiresIn olarak döner
+     */
+    public long getExpirationSeconds() {
+        return jwtExpiration / 1000;
     }
 
     /**
@@ -65,9 +151,7 @@ public class JwtUtil {
      * Token'ı parse eder ve içindeki tüm bilgileri (Claims) döner
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey()) // İmzayı doğrula
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -86,28 +170,69 @@ public class JwtUtil {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * Stateless mod için token oluşturur.
+     * Rol, kullanıcı id, organizasyon id ve token versiyonu claim olarak eklenir;
+     * böylece filter her istekte DB'ye gitmeden Authentication oluşturabilir.
+     */
+    public String generateToken(AuthenticatedUser user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ORGANIZATION_ID, user.getOrganizationId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        return generateToken(claims, user);
+    }
+
+    /**
+     * Token'ı tek seferde doğrular ve claim'lerden principal oluşturur.
+     *
+     * Eski (claim'siz) token'lar için null döner, çağıran taraf DB'ye düşebilir.
+     * İmza hatalı veya süresi dolmuşsa jjwt exception fırlatır.
+     */
+    public AuthenticatedUser extractAuthenticatedUser(String token) {
+        return verify(token).toPrincipal();
+    }
+
     /**
      * Kullanıcı adı ile doğrudan token oluşturur (UserDetails gerekmeden)
      */
     public String generateToken(String username) {
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(newTokenId()) // İptal listesi için token id (jti)
                 .subject(username) // Kullanıcı adı
                 .issuedAt(new Date(System.currentTimeMillis())) // Oluşturulma zamanı
-                .expiration(new Date(System.currentTimeMillis() + jwtExpiration)) // Bitiş zamanı
-                .signWith(getSignInKey()) // İmzala
-                .compact();
+                .expiration(new Date(System.currentTimeMillis() + jwtExpiration)); // Bitiş zamanı
+        return sign(builder);
     }
 
     /**
      * Token oluşturma (imzalama) işlemi
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claims(extraClaims) // Ekstra bilgiler (varsa)
+                .id(newTokenId()) // İptal listesi için token id (jti)
                 .subject(userDetails.getUsername()) // Kullanıcı adı
                 .issuedAt(new Date(System.currentTimeMillis())) // Oluşturulma zamanı
-                .expiration(new Date(System.currentTimeMillis() + jwtExpiration)) // Bitiş zamanı
-                .signWith(getSignInKey()) // İmzala
+                .expiration(new Date(System.currentTimeMillis() + jwtExpiration)); // Bitiş zamanı
+        return sign(builder);
+    }
+
+    /**
+     * Aktif anahtar ile imzalar
+     * Asimetrik anahtarda header'a kid yazılır (doğrulayan taraf anahtarı buna göre seçer)
+     */
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
+        if (signingKey.algorithm() == null) {
+            return builder.signWith(signingKey.key()).compact(); // HMAC (jwt.secret)
+        }
+
+        return builder
+                .header().keyId(signingKey.kid()).and()
+                .signWith((PrivateKey) signingKey.key(), signingKey.algorithm())
                 .compact();
     }
 
@@ -115,6 +240,8 @@ public class JwtUtil {
      * Token geçerli mi kontrol eder
      * 1. Kullanıcı adı uyuşuyor mu?
      * 2. Süresi dolmamış mı?
+     *
+     * Not: Token'ı iki kez parse eder. Yeni kod verify() kullanmalı.
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
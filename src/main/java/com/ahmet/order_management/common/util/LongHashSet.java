@@ -0,0 +1,117 @@
+package com.ahmet.order_management.common.util;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive long kümesi (open addressing, linear probing)
+ *
+ * HashSet&lt;Long&gt; her eleman için Long objesi + HashMap.Node tutar (~48 byte).
+ * Burada elemanlar doğrudan long[] içinde durur: doluluk oranı 0.5 ile eleman başına ~16 byte.
+ *
+ * - 0 boş slot işaretidir, kümeye eklenemez.
+ * - Silme yok; küme gerektiğinde baştan kurulur (TokenRevocationList).
+ * - Thread-safe DEĞİL, eşzamanlı erişim çağıran tarafta senkronize edilmeli.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int size;
+    private int mask;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return Eleman yeni eklendiyse true
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("0 kümeye eklenemez");
+        }
+
+        int index = index(value);
+        while (slots[index] != 0) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        size++;
+
+        // Doluluk %50'yi geçerse iki katına çık (probe zincirleri kısa kalsın)
+        if (size * 2 > slots.length) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return false;
+        }
+
+        int index = index(value);
+        long current;
+        while ((current = slots[index]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (long value : slots) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private void resize() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        mask = slots.length - 1;
+
+        for (long value : old) {
+            if (value != 0) {
+                int index = index(value);
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private int index(long value) {
+        return (int) mix(value) & mask;
+    }
+
+    /**
+     * SplitMix64 son adımı: ardışık id'ler de tabloya düzgün dağılır
+     */
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + slots.length + "}";
+    }
+}
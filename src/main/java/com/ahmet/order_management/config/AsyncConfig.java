@@ -0,0 +1,21 @@
+package com.ahmet.order_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async Configuration
+ * 
+ * @EnableAsync:
+ * - @Async metodları Spring Boot'un applicationTaskExecutor'u üzerinde çalışır
+ * 
+ * Virtual thread modu (spring.threads.virtual.enabled=true, Java 21+):
+ * - Spring Boot bu executor'u otomatik olarak virtual thread'li bir
+ *   SimpleAsyncTaskExecutor'a çevirir; Tomcat istekleri de virtual thread'de işlenir.
+ * - Açmak için: --spring.profiles.active=virtual
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    // Bu sınıf boş olabilir, sadece @EnableAsync aktif etmek için
+}
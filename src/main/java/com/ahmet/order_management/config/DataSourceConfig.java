@@ -0,0 +1,98 @@
+package com.ahmet.order_management.config;
+
+import com.ahmet.order_management.common.jdbc.ReadReplicaProperties;
+import com.ahmet.order_management.common.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource yapılandırması: primary'ye yazma, replica'lardan okuma
+ *
+ * - write-pool:  spring.datasource.* + spring.datasource.hikari.*
+ * - replica-N:   app.datasource.read.urls (boş ise tek havuz, primary'ye bağlı)
+ *                + app.datasource.read.hikari.*
+ *
+ * Yönlendirme (LazyConnectionDataSourceProxy):
+ * @Transactional(readOnly = true) metodlarda Hibernate bağlantıyı readOnly işaretler;
+ * proxy fiziksel bağlantıyı ilk SQL'e kadar almaz ve o anda readOnly ise
+ * ReplicaRoutingDataSource'tan (replica veya primary'ye geri dönüş), değilse
+ * write-pool'dan alır. Böylece uzun okuma istekleri (listeleme, export) yazma
+ * havuzunu tüketmez ve havuzlar ayrı ayrı boyutlandırılabilir.
+ *
+ * Transaction dışındaki JDBC çağrıları (Flyway, JdbcTemplate) yazma havuzunu kullanır.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class DataSourceConfig {
+
+    private static final String REPLICA_HIKARI_PREFIX = "app.datasource.read.hikari";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("write-pool");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource readDataSource(
+            DataSourceProperties properties,
+            ReadReplicaProperties replicaProperties,
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        List<String> urls = replicaProperties.getUrls().isEmpty()
+                ? List.of(properties.determineUrl())
+                : replicaProperties.getUrls();
+
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(pool));
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setReadOnly(true);
+            // Bean olmayan havuzlar Spring Boot'un hikaricp.* metriklerine otomatik bağlanmaz
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+
+        return new ReplicaRoutingDataSource(pools, writeDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(writeDataSource);
+        proxy.setReadOnlyDataSource(readDataSource);
+        return proxy;
+    }
+}
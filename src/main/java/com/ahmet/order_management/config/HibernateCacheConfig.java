@@ -0,0 +1,70 @@
+package com.ahmet.order_management.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2. seviye cache (L2) yapılandırması
+ *
+ * Organization neredeyse hiç değişmez ama her kullanıcı oluşturma, listeleme
+ * ve isim kontrolünde okunur. Entity ve isim sorguları L2 cache'ten döner.
+ *
+ * - Sağlayıcı: Caffeine JCache (yerel bellek, uygulama zaten Caffeine kullanıyor)
+ * - Region boyut/TTL'leri application.yaml'daki jpa-cache.regions altında
+ * - Cache'ler Hibernate açılmadan önce burada oluşturulur ve CacheManager
+ *   Hibernate'e verilir (hibernate.javax.cache.cache_manager)
+ * - Hit/miss/put istatistikleri: /actuator/metrics/hibernate.second.level.cache.requests
+ *
+ * Tutarlılık: READ_WRITE strateji; entity üzerinden yapılan güncelleme ve
+ * silmeler commit'te cache'e yansır. Tablo değişince query cache'i de
+ * (update timestamps region) otomatik geçersiz olur.
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+@Slf4j
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        properties.getRegions().forEach((name, region) -> {
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration(region));
+                log.info("L2 cache region oluşturuldu: {} (maxSize={}, ttl={})", name, region.getMaxSize(), region.getTtl());
+            }
+        });
+
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(HibernateCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+
+        if (region.getMaxSize() > 0) {
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        }
+        if (region.getTtl() != null) {
+            configuration.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(
+                    new Duration(TimeUnit.MILLISECONDS, region.getTtl().toMillis())));
+        }
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ahmet.order_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2. seviye cache region ayarları (jpa-cache.*)
+ *
+ * Her region için ayrı boyut ve TTL. Tanımlanmayan region'lar
+ * sağlayıcının varsayılanlarıyla (sınırsız) oluşturulur.
+ */
+@Data
+@ConfigurationProperties(prefix = "jpa-cache")
+public class HibernateCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+
+        /**
+         * En fazla kayıt sayısı (0 = sınırsız)
+         */
+        private long maxSize;
+
+        /**
+         * Yazıldıktan sonra geçerlilik süresi (boş = süresiz)
+         */
+        private Duration ttl;
+    }
+}
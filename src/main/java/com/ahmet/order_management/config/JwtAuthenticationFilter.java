@@ -1,5 +1,10 @@
 package com.ahmet.order_management.config;
 
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.auth.security.VerifiedToken;
+import com.ahmet.order_management.auth.security.VerifiedTokenCache;
+import com.ahmet.order_management.auth.service.TokenVersionService;
 import com.ahmet.order_management.common.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +30,18 @@ import java.io.IOException;
  * Her HTTP isteğinde araya girer (Filter).
  * Header'da "Authorization: Bearer <token>" var mı diye bakar.
  * Varsa token'ı doğrular ve kullanıcıyı sisteme giriş yapmış sayar.
+ * 
+ * Stateless mod (jwt.stateless=true):
+ * - Authentication sadece imzası doğrulanmış claim'lerden oluşturulur (DB sorgusu yok).
+ * - Token versiyonu TokenVersionService ile kontrol edilir (TTL'li bellek cache'i).
+ * - Claim'leri olmayan eski token'lar için DB'den kullanıcı yüklenir.
+ * 
+ * Doğrulanmış token'lar VerifiedTokenCache'te tutulur; tekrar gelen token için
+ * HMAC ve JSON çözme yapılmaz.
+ * 
+ * İptal kontrolü (logout, admin "tüm oturumları kapat") TokenRevocationList ile
+ * bellekte yapılır; cache'ten gelen token'lar da her istekte kontrol edilir.
+ * VerifiedToken, Authentication'ın credentials alanında taşınır (logout için).
  */
 @Component
 @RequiredArgsConstructor
@@ -32,6 +50,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService; // Spring Security'nin user servisi
+    private final TokenVersionService tokenVersionService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -42,7 +66,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
 
         // 1. Header kontrolü: "Bearer " ile başlamıyorsa geç
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -54,30 +77,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            // 3. Username'i token'dan çıkar
-            username = jwtUtil.extractUsername(jwt);
+            // Kullanıcı zaten authenticate olmuşsa tekrar doğrulama yapma
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // 4. Token valid ise ve kullanıcı henüz authenticate olmamışsa
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                
-                // User bilgilerini DB'den çek
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // 3. Token'ı TEK SEFERDE doğrula (imza + süre), sonrası bellekten okunur
+                // Daha önce doğrulanmış token ise hiç kripto işlemi yapılmaz
+                VerifiedToken token = verifiedTokenCache.get(jwt, jwtUtil::verify);
+                AuthenticatedUser principal = stateless ? token.toPrincipal() : null;
 
-                // 5. Token doğrulama
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    
-                    // Authentication objesi oluştur
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
-                    // SecurityContext'e (Sisteme) kaydet
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    log.debug("User authenticated via JWT: {}", username);
+                if (tokenRevocationList.isRevoked(token)) {
+                    // 4. İptal edilmiş token (Bloom filter → çoğu istekte kilitsiz "yok")
+                    verifiedTokenCache.evict(jwt);
+                    log.debug("JWT iptal edilmiş: userId={}, jti={}", token.getUserId(), token.getTokenId());
+                } else if (principal != null) {
+                    // 5a. Stateless mod: claim'lerden principal oluştur (DB'ye gitmeden)
+                    if (tokenVersionService.isCurrent(principal.getId(), principal.getTokenVersion())) {
+                        authenticate(principal, token, request);
+                        log.debug("User authenticated via JWT claims: {}", principal.getUsername());
+                    } else {
+                        verifiedTokenCache.evict(jwt);
+                        log.debug("JWT token versiyonu güncel değil: userId={}", principal.getId());
+                    }
+                } else if (token.getSubject() != null) {
+                    // 5b. Eski token veya stateless mod kapalı: User bilgilerini DB'den çek
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(token.getSubject());
+
+                    // Süre kontrolü verify() içinde yapıldı, sadece kullanıcı adı karşılaştırılır
+                    if (token.getSubject().equals(userDetails.getUsername())) {
+                        authenticate(userDetails, token, request);
+                        log.debug("User authenticated via JWT: {}", token.getSubject());
+                    }
                 }
             }
         } catch (Exception e) {
@@ -88,4 +117,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Sonraki filtreye geç
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Authentication objesi oluşturur ve SecurityContext'e (Sisteme) kaydeder
+     * Credentials: doğrulanmış token (logout'ta iptal edilecek jti için)
+     */
+    private void authenticate(UserDetails userDetails, VerifiedToken token, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                token,
+                userDetails.getAuthorities()
+        );
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
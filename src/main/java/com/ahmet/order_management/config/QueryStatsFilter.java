@@ -0,0 +1,52 @@
+package com.ahmet.order_management.config;
+
+import com.ahmet.order_management.common.jdbc.QueryStatsProperties;
+import com.ahmet.order_management.common.jdbc.RequestQueryStatsRecorder;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Query Stats Filter
+ *
+ * Security filtrelerinden önce çalışır; JWT doğrulamasındaki sorgular
+ * (token versiyonu vb.) dahil isteğin tüm SQL'leri sayılır.
+ *
+ * - İstek başında RequestQueryStats thread'e bağlanır
+ * - İstek sonunda metrik kaydı ve bütçe kontrolü (RequestQueryStatsRecorder)
+ * - Header'lar body yazılmadan önce QueryStatsResponseAdvice tarafından eklenir
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final QueryStatsProperties properties;
+    private final RequestQueryStatsRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        recorder.begin(properties.getMaxTracedStatements());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.end(request);
+        }
+    }
+}
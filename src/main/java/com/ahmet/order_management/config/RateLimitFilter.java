@@ -0,0 +1,180 @@
+package com.ahmet.order_management.config;
+
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import com.ahmet.order_management.common.ratelimit.RateLimitProperties;
+import com.ahmet.order_management.common.ratelimit.RateLimiter;
+import com.ahmet.order_management.common.ratelimit.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter
+ * 
+ * JwtAuthenticationFilter'dan hemen sonra çalışır (kimlik artık biliniyor).
+ * Tek bir tenant'ın tüm istek kapasitesini ve Hikari havuzunu tüketmesini engeller.
+ * 
+ * - Route grubu: rate-limit.groups.* (pattern eşleşen ilk grup)
+ * - Giriş yapmış istek: kullanıcı bucket'ı + organizasyon bucket'ı
+ * - Grupta IP limiti varsa (örn: /auth/**): client IP bucket'ı, giriş yapılmış olsa da
+ * - Önce tüm bucket'lar kontrol edilir; biri reddederse diğerlerinden token harcanmaz
+ * - Bucket'lar kilitsiz (TokenBucket, tek CAS)
+ * 
+ * Limit aşılırsa TooManyRequestsException HandlerExceptionResolver üzerinden
+ * GlobalExceptionHandler'a iletilir (filter'lar @RestControllerAdvice'e ulaşamaz):
+ * 429 + Retry-After, standart ApiResponse gövdesi.
+ * 
+ * Metrik: http.server.requests.throttled{group, scope}
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(
+            RateLimitProperties properties,
+            RateLimiter rateLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getServletPath();
+
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+
+            if (matches(group, path)) {
+                long waitNanos = acquire(entry.getKey(), group, request);
+                if (waitNanos > 0) {
+                    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+                    handlerExceptionResolver.resolveException(request, response, null,
+                            new TooManyRequestsException("Çok fazla istek, lütfen daha sonra tekrar deneyin", retryAfterSeconds));
+                    return;
+                }
+                break;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Grubun tanımlı kapsamlarından token alır
+     *
+     * @return 0 ise kabul; aksi halde beklenmesi gereken süre (ns)
+     */
+    private long acquire(String groupName, RateLimitProperties.Group group, HttpServletRequest request) {
+        List<Target> targets = targets(groupName, group, request);
+        long now = System.nanoTime();
+
+        // Önce kontrol: örn. organizasyon limiti doluysa kullanıcı token'ı boşa harcanmaz
+        for (Target target : targets) {
+            long wait = target.bucket().waitNanos(now);
+            if (wait > 0) {
+                return throttled(groupName, target, wait);
+            }
+        }
+
+        // Sonra al: arada başka bir istek son token'ı aldıysa öncekiler geri verilir
+        for (int i = 0; i < targets.size(); i++) {
+            long wait = targets.get(i).bucket().tryAcquire(now);
+            if (wait > 0) {
+                for (int j = 0; j < i; j++) {
+                    targets.get(j).bucket().refund();
+                }
+                return throttled(groupName, targets.get(i), wait);
+            }
+        }
+        return 0;
+    }
+
+    private List<Target> targets(String groupName, RateLimitProperties.Group group, HttpServletRequest request) {
+        List<Target> targets = new ArrayList<>(3);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            addTarget(targets, groupName, RateLimiter.Scope.USER, user.getId(), group.getUser());
+            addTarget(targets, groupName, RateLimiter.Scope.ORGANIZATION, user.getOrganizationId(), group.getOrganization());
+        }
+
+        // Proxy arkasında server.forward-headers-strategy ayarlanmalı
+        addTarget(targets, groupName, RateLimiter.Scope.IP, request.getRemoteAddr(), group.getIp());
+        return targets;
+    }
+
+    private void addTarget(List<Target> targets, String groupName, RateLimiter.Scope scope, Object id,
+                           RateLimitProperties.Limit limit) {
+        if (limit != null && id != null) {
+            targets.add(new Target(scope, id, rateLimiter.bucket(groupName, scope, id, limit)));
+        }
+    }
+
+    private long throttled(String groupName, Target target, long waitNanos) {
+        throttledCounter(groupName, target.scope()).increment();
+        log.debug("Rate limit aşıldı: group={}, scope={}, id={}", groupName, target.scope(), target.id());
+        return waitNanos;
+    }
+
+    private boolean matches(RateLimitProperties.Group group, String path) {
+        for (String pattern : group.getPatterns()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Counter throttledCounter(String groupName, RateLimiter.Scope scope) {
+        return throttledCounters.computeIfAbsent(groupName + ":" + scope, key -> Counter
+                .builder("http.server.requests.throttled")
+                .description("Rate limit nedeniyle 429 dönen istekler")
+                .tag("group", groupName)
+                .tag("scope", scope.name().toLowerCase())
+                .register(meterRegistry));
+    }
+
+    private record Target(RateLimiter.Scope scope, Object id, TokenBucket bucket) {
+    }
+}
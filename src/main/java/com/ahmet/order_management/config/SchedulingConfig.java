@@ -0,0 +1,16 @@
+package com.ahmet.order_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * 
+ * @EnableScheduling:
+ * - @Scheduled metodlarını aktif eder (örn: süresi dolmuş refresh token temizliği)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Bu sınıf boş olabilir, sadece @EnableScheduling aktif etmek için
+}
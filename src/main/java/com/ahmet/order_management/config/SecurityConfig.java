@@ -1,9 +1,15 @@
 package com.ahmet.order_management.config;
 
+import com.ahmet.order_management.auth.security.BCryptCostCalibrator;
+import com.ahmet.order_management.auth.security.JwtKeyProperties;
 import com.ahmet.order_management.auth.service.CustomUserDetailsService;
+import com.ahmet.order_management.common.ratelimit.RateLimitProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -13,10 +19,15 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Security Configuration
  * 
@@ -24,17 +35,37 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * 1. CSRF kapalı (Stateless olduğu için gerek yok)
  * 2. Session yönetimi yok (STATELESS)
  * 3. /auth/** endpointlerine herkes erişebilir
+ *    /actuator/prometheus, /actuator/metrics ve /actuator/pools sadece ADMIN
+ *    Silinmiş kullanıcı listeleme / geri alma, hesap aktif/pasif yapma ve oturum kapatma sadece ADMIN
  * 4. Diğer tüm endpointler için AUTHENTICATION gerekli
  * 5. JwtAuthenticationFilter devreye girer
+ * 6. RateLimitFilter kullanıcı / organizasyon / IP bazlı limitleri uygular
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({JwtKeyProperties.class, RateLimitProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomUserDetailsService userDetailsService;
     
+    /**
+     * BCryptPasswordEncoder varsayılanı; mevcut hash'ler bu maliyette, altına düşülmez
+     */
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final String BCRYPT_ID = "bcrypt";
+    
+    @Value("${security.password.bcrypt-strength:0}")
+    private int bcryptStrength;
+    
+    @Value("${security.password.target-latency:250ms}")
+    private Duration targetLatency;
+    
+    @Value("${security.password.max-strength:16}")
+    private int maxBcryptStrength;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -42,12 +73,21 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Session yok
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/**").permitAll() // Login/Register serbest
+                .requestMatchers("/.well-known/jwks.json").permitAll() // JWT public key'leri serbest
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // Swagger serbest
-                .requestMatchers("/actuator/**").permitAll() // Actuator endpoints serbest
+                // Metrikler organizasyon (tenant) id'si ve gecikmesi, pools havuz boyut/doluluğunu taşır:
+                // sadece admin token'ı ile
+                // (Prometheus scrape: authorization / bearer_token_file)
+                .requestMatchers("/actuator/prometheus", "/actuator/metrics/**", "/actuator/pools").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").permitAll() // Diğer actuator endpoint'leri (health, info) serbest
+                .requestMatchers("/api/users/deleted", "/api/users/*/restore").hasRole("ADMIN") // Silinmiş kullanıcılar
+                .requestMatchers(HttpMethod.PATCH, "/api/users/*/status").hasRole("ADMIN") // Hesabı pasif/aktif yapma
+                .requestMatchers(HttpMethod.POST, "/api/users/*/revoke-tokens").hasRole("ADMIN") // Oturumları kapatma
                 .anyRequest().authenticated() // Diğer her yer kilitli
             )
             .authenticationProvider(authenticationProvider()) // Kendi auth provider'ımızı ekle
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // JWT filtresini ekle
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT filtresini ekle
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class); // Kimlik belli olduktan sonra rate limit
             
         return http.build();
     }
@@ -57,6 +97,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService); // DB'den kullanıcı bulma servisi
         authProvider.setPasswordEncoder(passwordEncoder());   // Şifre doğrulama yöntemi
+        // Başarılı login'de eski/zayıf hash güncel maliyetle yeniden hash'lenir
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -65,8 +107,28 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
     
+    /**
+     * Password Encoder
+     * 
+     * DelegatingPasswordEncoder: Hash'ler algoritma id'si ile saklanır → {bcrypt}$2a$12$...
+     * - Yeni hash'ler {bcrypt} ile, kalibre edilen maliyette üretilir
+     * - Prefix'siz eski hash'ler BCrypt olarak doğrulanır
+     * - Algoritma/maliyet eskiyse login'de otomatik yeniden hash'lenir (upgradeEncoding)
+     * 
+     * Maliyet: security.password.bcrypt-strength > 0 ise sabit,
+     * 0 ise açılışta target-latency bütçesine göre ölçülür.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : BCryptCostCalibrator.calibrate(targetLatency, MIN_BCRYPT_STRENGTH, maxBcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new BCryptPasswordEncoder(strength));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 }
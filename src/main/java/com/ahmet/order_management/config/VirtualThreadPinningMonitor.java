@@ -0,0 +1,96 @@
+package com.ahmet.order_management.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual Thread Pinning Monitor
+ * 
+ * Virtual thread, synchronized blok veya native çağrı içinde bloklanırsa
+ * taşıyıcı (carrier) platform thread'ini de kilitler ("pinning").
+ * JDBC sürücüleri ve bazı kütüphaneler synchronized kullandığı için
+ * virtual thread modunda bu durumların görünür olması gerekir.
+ * 
+ * JFR'in jdk.VirtualThreadPinned olayını uygulama içinden dinler:
+ * - Her olay için log (en üstteki stack frame'ler ile)
+ * - Metrikler: jvm.threads.virtual.pinned (sayaç), jvm.threads.virtual.pinned.duration (süre)
+ * 
+ * Sadece app.virtual-threads.pinning-monitor.enabled=true iken aktif (virtual profilinde açık).
+ * Java 21 öncesinde olay hiç üretilmez, monitor zararsızdır.
+ */
+@Component
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.virtual-threads.pinning-monitor.threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        Counter pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Taşıyıcı thread'i kilitleyen virtual thread bloklanmaları")
+                .register(meterRegistry);
+        Timer pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Pinning süresi")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, event -> {
+            pinnedCounter.increment();
+            pinnedTimer.record(event.getDuration());
+            log.warn("Virtual thread pinned: duration={}ms, thread={}, stack=\n{}",
+                    event.getDuration().toMillis(), threadName(event), topFrames(event));
+        });
+        recordingStream.startAsync();
+
+        log.info("Virtual thread pinning monitor başlatıldı: threshold={}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private static String threadName(RecordedEvent event) {
+        return event.getThread() != null ? event.getThread().getJavaName() : "?";
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "  (stack yok)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "  at " + frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.ahmet.order_management.organization.controller;
 
 import com.ahmet.order_management.common.dto.ApiResponse;
+import com.ahmet.order_management.common.dto.CursorPage;
 import com.ahmet.order_management.organization.dto.OrganizationRequest;
 import com.ahmet.order_management.organization.dto.OrganizationResponse;
 import com.ahmet.order_management.organization.entity.Organization;
@@ -13,13 +14,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Organization Controller
  * 
  * REST API Endpoints:
- * - GET /api/organizations
+ * - GET /api/organizations?cursor=&limit=
  * - GET /api/organizations/{id}
  * - POST /api/organizations
  * - PUT /api/organizations/{id}
@@ -35,9 +34,11 @@ public class OrganizationController {
     private final OrganizationMapper organizationMapper;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<OrganizationResponse>>> getAllOrganizations() {
-        List<Organization> organizations = organizationService.getAllOrganizations();
-        List<OrganizationResponse> response = organizationMapper.toResponseList(organizations);
+    public ResponseEntity<ApiResponse<CursorPage<OrganizationResponse>>> getAllOrganizations(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<Organization> organizations = organizationService.getOrganizations(cursor, limit);
+        CursorPage<OrganizationResponse> response = organizations.map(organizationMapper::toResponse);
         
         return ResponseEntity.ok(ApiResponse.success(response, "Organizasyonlar listelendi"));
     }
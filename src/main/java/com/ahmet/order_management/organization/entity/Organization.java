@@ -7,6 +7,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Organization (Organizasyon) entity
@@ -18,9 +21,18 @@ import lombok.EqualsAndHashCode;
  * 
  * BaseEntity'den miras alır:
  * - id, createdAt, updatedAt, deletedAt
+ * 
+ * 2. seviye cache'te tutulur (region: organizations, bkz. HibernateCacheConfig).
+ * Güncellemeler entity üzerinden yapılmalı; native SQL cache'i atlar.
+ * 
+ * Soft delete: Silinmiş organizasyonlar JPA sorgularında dönmez (@SQLRestriction).
+ * L2 cache hit'leri bu filtreden geçmediği için silmede cache kaydı ayrıca düşürülür.
  */
 @Entity
 @Table(name = "organizations")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Organization.CACHE_REGION)
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @EqualsAndHashCode(callSuper = true)  // BaseEntity'deki alanları da equals/hashCode'a dahil et
 @Builder
@@ -28,11 +40,14 @@ import lombok.EqualsAndHashCode;
 @AllArgsConstructor
 public class Organization extends BaseEntity {
     
+    public static final String CACHE_REGION = "organizations";
+    public static final String QUERY_CACHE_REGION = "organization-queries";
+    
     /**
      * Organizasyon adı
      * Örnek: "ABC Şirketi"
      */
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String name;
     
     /**
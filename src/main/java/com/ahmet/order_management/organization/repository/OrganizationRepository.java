@@ -1,9 +1,14 @@
 package com.ahmet.order_management.organization.repository;
 
 import com.ahmet.order_management.organization.entity.Organization;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +24,10 @@ import java.util.Optional;
  * Custom metodlar:
  * - findByName(String) → İsme göre bul
  * - existsByName(String) → İsim var mı kontrol et
+ * - findAllByOrderByIdAsc / findByIdGreaterThanOrderByIdAsc → Keyset (cursor) sayfalama
+ * 
+ * findByName / existsByName query cache'ten döner (region: organization-queries).
+ * organizations tablosu değiştiğinde bu sonuçlar Hibernate tarafından geçersiz kılınır.
  */
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
@@ -32,6 +41,10 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
      * Spring Data JPA otomatik query oluşturur:
      * SELECT * FROM organizations WHERE name = ?
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Organization.QUERY_CACHE_REGION)
+    })
     Optional<Organization> findByName(String name);
     
     /**
@@ -43,5 +56,23 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
      * Spring Data JPA otomatik query oluşturur:
      * SELECT COUNT(*) > 0 FROM organizations WHERE name = ?
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Organization.QUERY_CACHE_REGION)
+    })
     boolean existsByName(String name);
+    
+    /**
+     * İlk sayfa (keyset sayfalama)
+     * 
+     * SELECT * FROM organizations ORDER BY id LIMIT ?
+     */
+    List<Organization> findAllByOrderByIdAsc(Limit limit);
+    
+    /**
+     * Cursor'dan sonraki sayfa (keyset sayfalama)
+     * 
+     * SELECT * FROM organizations WHERE id > ? ORDER BY id LIMIT ?
+     */
+    List<Organization> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
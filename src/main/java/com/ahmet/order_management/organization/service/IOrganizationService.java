@@ -1,11 +1,11 @@
 package com.ahmet.order_management.organization.service;
 
+import com.ahmet.order_management.common.dto.CursorPage;
 import com.ahmet.order_management.organization.entity.Organization;
-import java.util.List;
 
 public interface IOrganizationService {
     
-    List<Organization> getAllOrganizations();
+    CursorPage<Organization> getOrganizations(Long cursor, int limit);
     
     Organization getOrganizationById(Long id);
     
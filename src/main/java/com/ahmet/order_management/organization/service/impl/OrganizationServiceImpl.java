@@ -1,14 +1,20 @@
 package com.ahmet.order_management.organization.service.impl;
 
+import com.ahmet.order_management.common.dto.CursorPage;
 import com.ahmet.order_management.common.exception.BusinessException;
 import com.ahmet.order_management.common.exception.NotFoundException;
 import com.ahmet.order_management.organization.entity.Organization;
 import com.ahmet.order_management.organization.repository.OrganizationRepository;
 import com.ahmet.order_management.organization.service.IOrganizationService;
+import com.ahmet.order_management.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -19,11 +25,21 @@ import java.util.List;
 public class OrganizationServiceImpl implements IOrganizationService {
     
     private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
     
     @Override
-    public List<Organization> getAllOrganizations() {
-        log.debug("Tüm organizasyonlar getiriliyor");
-        return organizationRepository.findAll();
+    public CursorPage<Organization> getOrganizations(Long cursor, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        log.debug("Organizasyonlar getiriliyor: cursor={}, limit={}", cursor, pageSize);
+        
+        // Sonraki sayfa var mı anlamak için bir fazla kayıt çekilir
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Organization> rows = cursor == null
+                ? organizationRepository.findAllByOrderByIdAsc(fetchLimit)
+                : organizationRepository.findByIdGreaterThanOrderByIdAsc(cursor, fetchLimit);
+        
+        return CursorPage.of(rows, pageSize, Organization::getId);
     }
     
     @Override
@@ -81,9 +97,33 @@ public class OrganizationServiceImpl implements IOrganizationService {
         
         Organization organization = getOrganizationById(id);
         
+        // Silinmemiş kullanıcısı olan organizasyon silinemez (kullanıcılar sahipsiz kalırdı)
+        if (userRepository.existsByOrganizationId(id)) {
+            throw new BusinessException("Aktif kullanıcısı olan organizasyon silinemez: " + id);
+        }
+        
         organization.setDeletedAt(java.time.LocalDateTime.now());
         organizationRepository.save(organization);
+        evictFromSecondLevelCacheAfterCommit(id);
         
         log.info("Organizasyon silindi (soft delete): id={}", id);
     }
+    
+    /**
+     * L2 cache hit'leri @SQLRestriction'dan geçmez; silinmiş organizasyon findById ile
+     * cache'ten dönmesin diye kayıt düşürülür. Hibernate commit sırasında güncel hali
+     * cache'e yazdığı için düşürme commit'ten sonra yapılır.
+     */
+    private void evictFromSecondLevelCacheAfterCommit(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(Organization.class, id);
+                }
+            });
+        } else {
+            entityManagerFactory.getCache().evict(Organization.class, id);
+        }
+    }
 }
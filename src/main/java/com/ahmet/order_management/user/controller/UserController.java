@@ -1,30 +1,50 @@
 package com.ahmet.order_management.user.controller;
 
 import com.ahmet.order_management.common.dto.ApiResponse;
+import com.ahmet.order_management.common.dto.CursorPage;
+import com.ahmet.order_management.user.dto.BulkUserImportRequest;
+import com.ahmet.order_management.user.dto.BulkUserImportResponse;
+import com.ahmet.order_management.user.dto.DeletedUserResponse;
 import com.ahmet.order_management.user.dto.UserRequest;
 import com.ahmet.order_management.user.dto.UserResponse;
 import com.ahmet.order_management.user.entity.User;
+import com.ahmet.order_management.user.export.UserExportFormat;
 import com.ahmet.order_management.user.mapper.UserMapper;
 import com.ahmet.order_management.user.service.IUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * User Controller
  * 
  * REST API Endpoints:
- * - GET /api/users
+ * - GET /api/users?cursor=&limit=
+ * - GET /api/users/export?organizationId=&format=
  * - GET /api/users/{id}
  * - POST /api/users
+ * - POST /api/users/bulk
  * - PUT /api/users/{id}
+ * - PATCH /api/users/{id}/status
+ * - POST /api/users/{id}/revoke-tokens
  * - DELETE /api/users/{id}
+ * - GET /api/users/deleted?cursor=&limit=
+ * - POST /api/users/{id}/restore
  */
 @RestController
 @RequestMapping("/api/users")
@@ -34,11 +54,15 @@ public class UserController {
     
     private final IUserService userService;
     private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        List<UserResponse> response = userMapper.toResponseList(users);
+    @Operation(summary = "Kullanıcıları Listele", description = "Cursor tabanlı sayfalama. Sonraki sayfa için dönen nextCursor değerini gönderin.")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getAllUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<User> users = userService.getUsers(cursor, limit);
+        CursorPage<UserResponse> response = users.map(userMapper::toResponse);
         
         return ResponseEntity.ok(ApiResponse.success(response, "Kullanıcılar listelendi"));
     }
@@ -55,6 +79,35 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response, "Profil bilgileri getirildi"));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Kullanıcı Export", description = "Organizasyonun tüm kullanıcılarını NDJSON veya CSV olarak stream eder. Bellek kullanımı tablo boyutundan bağımsızdır.")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam Long organizationId,
+            @RequestParam(defaultValue = "NDJSON") UserExportFormat format) {
+        
+        // Satırlar DB'den okundukça doğrudan response'a yazılır (liste oluşturulmaz)
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            format.writeHeader(writer);
+            
+            userService.exportUsers(organizationId, user -> {
+                try {
+                    format.writeRow(writer, userMapper.toResponse(user), objectMapper);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            
+            writer.flush();
+        };
+        
+        String fileName = "users-" + organizationId + "." + format.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Kullanıcı Getir (ID)", description = "ID ile kullanıcı detayı getirir. (Genellikle Admin kullanımı içindir)")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
@@ -81,6 +134,14 @@ public class UserController {
                 .body(ApiResponse.success(response, "Kullanıcı oluşturuldu"));
     }
     
+    @PostMapping("/bulk")
+    @Operation(summary = "Toplu Kullanıcı Import", description = "Tek istekte en fazla 1000 kullanıcı oluşturur. Her satır için ayrı sonuç döner.")
+    public ResponseEntity<ApiResponse<BulkUserImportResponse>> importUsers(@Valid @RequestBody BulkUserImportRequest request) {
+        BulkUserImportResponse response = BulkUserImportResponse.of(userService.importUsers(request.getUsers()));
+        
+        return ResponseEntity.ok(ApiResponse.success(response, "Toplu import tamamlandı"));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @PathVariable Long id,
@@ -95,9 +156,47 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response, "Kullanıcı güncellendi"));
     }
     
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Kullanıcı Aktif/Pasif", description = "Kullanıcıyı aktif veya pasif yapar (Admin). Pasif kullanıcının token'ları anında geçersiz olur.")
+    public ResponseEntity<ApiResponse<UserResponse>> changeActiveStatus(
+            @PathVariable Long id,
+            @RequestParam boolean active) {
+        User user = userService.changeActiveStatus(id, active);
+        UserResponse response = userMapper.toResponse(user);
+        
+        return ResponseEntity.ok(ApiResponse.success(response, "Kullanıcı durumu güncellendi"));
+    }
+    
+    @PostMapping("/{id}/revoke-tokens")
+    @Operation(summary = "Oturumları Kapat", description = "Kullanıcının mevcut tüm access ve refresh token'larını iptal eder (Admin). Kendi oturumu için /auth/logout.")
+    public ResponseEntity<ApiResponse<Void>> revokeTokens(@PathVariable Long id) {
+        userService.revokeTokens(id);
+        return ResponseEntity.ok(ApiResponse.success(null, "Kullanıcının oturumları kapatıldı"));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success(null, "Kullanıcı silindi"));
     }
+    
+    @GetMapping("/deleted")
+    @Operation(summary = "Silinmiş Kullanıcılar", description = "Soft delete ile silinmiş kullanıcıları listeler (Admin). Cursor tabanlı sayfalama.")
+    public ResponseEntity<ApiResponse<CursorPage<DeletedUserResponse>>> getDeletedUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<DeletedUserResponse> response = userService.getDeletedUsers(cursor, limit)
+                .map(userMapper::toDeletedResponse);
+        
+        return ResponseEntity.ok(ApiResponse.success(response, "Silinmiş kullanıcılar listelendi"));
+    }
+    
+    @PostMapping("/{id}/restore")
+    @Operation(summary = "Kullanıcıyı Geri Al", description = "Silinmiş kullanıcıyı geri alır (Admin). Kullanıcı adı/email başkasına verildiyse 400 döner.")
+    public ResponseEntity<ApiResponse<UserResponse>> restoreUser(@PathVariable Long id) {
+        User user = userService.restoreUser(id);
+        UserResponse response = userMapper.toResponse(user);
+        
+        return ResponseEntity.ok(ApiResponse.success(response, "Kullanıcı geri alındı"));
+    }
 }
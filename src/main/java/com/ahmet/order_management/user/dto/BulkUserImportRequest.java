@@ -0,0 +1,26 @@
+package com.ahmet.order_management.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Toplu kullanıcı import isteği")
+public class BulkUserImportRequest {
+    
+    @NotEmpty(message = "Kullanıcı listesi boş olamaz")
+    @Size(max = 1000, message = "Tek seferde en fazla 1000 kullanıcı import edilebilir")
+    @Valid
+    @Schema(description = "Oluşturulacak kullanıcılar")
+    private List<UserRequest> users;
+}
@@ -0,0 +1,40 @@
+package com.ahmet.order_management.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Toplu kullanıcı import yanıtı")
+public class BulkUserImportResponse {
+    
+    @Schema(description = "İstekteki toplam satır")
+    private int total;
+    
+    @Schema(description = "Oluşturulan kullanıcı sayısı")
+    private int created;
+    
+    @Schema(description = "Başarısız satır sayısı")
+    private int failed;
+    
+    @Schema(description = "Satır bazlı sonuçlar")
+    private List<BulkUserImportResult> results;
+    
+    public static BulkUserImportResponse of(List<BulkUserImportResult> results) {
+        int created = (int) results.stream().filter(BulkUserImportResult::isSuccess).count();
+        
+        return BulkUserImportResponse.builder()
+                .total(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ahmet.order_management.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Toplu import satır sonucu")
+public class BulkUserImportResult {
+    
+    @Schema(description = "İstekteki sıra (0'dan başlar)")
+    private int index;
+    
+    @Schema(description = "Kullanıcı adı")
+    private String username;
+    
+    @Schema(description = "Satır başarıyla oluşturuldu mu?")
+    private boolean success;
+    
+    @Schema(description = "Oluşturulan kullanıcının ID'si (başarılıysa)")
+    private Long id;
+    
+    @Schema(description = "Hata mesajı (başarısızsa)")
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.ahmet.order_management.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Silinmiş (soft delete) kullanıcı (admin görünümü)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletedUserResponse {
+    
+    private Long id;
+    private String username;
+    private String email;
+    private String fullName;
+    private Long organizationId;
+    private String organizationName;
+    private LocalDateTime deletedAt;
+}
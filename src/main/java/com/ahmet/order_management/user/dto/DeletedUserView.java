@@ -0,0 +1,26 @@
+package com.ahmet.order_management.user.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Silinmiş kullanıcı görünümü (UserRepository.findDeleted, native sorgu projection'ı)
+ *
+ * Organizasyon da silinmiş olabileceği için entity yerine düz kolonlar taşır.
+ * Controller UserMapper.toDeletedResponse ile DeletedUserResponse'a çevirir.
+ */
+public interface DeletedUserView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getFullName();
+
+    Long getOrganizationId();
+
+    String getOrganizationName();
+
+    LocalDateTime getDeletedAt();
+}
@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,9 +23,16 @@ import java.util.List;
  * Spring Security Entegrasyonu:
  * - UserDetails interface'ini implement eder.
  * - getAuthorities(), getUsername(), isAccountNonExpired() vb. metodları sağlar.
+ * 
+ * Soft delete: Silinmiş kullanıcılar hiçbir JPA sorgusunda dönmez (@SQLRestriction).
+ * username/email tekilliği sadece silinmemiş satırlar için geçerlidir (kısmi unique index).
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Organizasyon bazlı listeleme/export: WHERE organization_id = ? ORDER BY id
+        @Index(name = "idx_users_organization_id", columnList = "organization_id, id")
+})
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Builder
@@ -31,10 +40,10 @@ import java.util.List;
 @AllArgsConstructor
 public class User extends BaseEntity implements UserDetails {
     
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
     
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
     
     @Column(nullable = false)
@@ -55,6 +64,16 @@ public class User extends BaseEntity implements UserDetails {
     @JoinColumn(name = "organization_id", nullable = false)
     private Organization organization;
 
+    /**
+     * Token versiyonu
+     * Şifre değişikliği, silme gibi güvenlik açısından kritik işlemlerde artırılır.
+     * JWT içindeki "ver" claim'i bu değerle uyuşmuyorsa token geçersiz sayılır.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
     // --- UserDetails Implementasyonu ---
 
     @Override
@@ -0,0 +1,93 @@
+package com.ahmet.order_management.user.export;
+
+import com.ahmet.order_management.user.dto.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Kullanıcı export formatları
+ *
+ * NDJSON: Her satır bir UserResponse JSON objesi (satır satır işlenebilir)
+ * CSV:    Başlık satırı + her kullanıcı için bir satır
+ *
+ * Satırlar tek tek yazılır; tüm liste hiçbir zaman bellekte toplanmaz.
+ */
+public enum UserExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+            // NDJSON'da başlık yok
+        }
+
+        @Override
+        public void writeRow(Writer writer, UserResponse user, ObjectMapper objectMapper) throws IOException {
+            writer.write(objectMapper.writeValueAsString(user));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        private static final String HEADER =
+                "id,username,email,fullName,role,active,organizationId,organizationName,createdAt,updatedAt";
+
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void writeRow(Writer writer, UserResponse user, ObjectMapper objectMapper) throws IOException {
+            writer.write(String.join(",",
+                    csv(user.getId()),
+                    csv(user.getUsername()),
+                    csv(user.getEmail()),
+                    csv(user.getFullName()),
+                    csv(user.getRole()),
+                    csv(user.getActive()),
+                    csv(user.getOrganizationId()),
+                    csv(user.getOrganizationName()),
+                    csv(user.getCreatedAt()),
+                    csv(user.getUpdatedAt())));
+            writer.write('\n');
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    UserExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, UserResponse user, ObjectMapper objectMapper) throws IOException;
+
+    /**
+     * CSV alanı: virgül, tırnak veya satır sonu içeriyorsa tırnak içine alınır (RFC 4180)
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ahmet.order_management.user.mapper;
 
+import com.ahmet.order_management.user.dto.DeletedUserResponse;
+import com.ahmet.order_management.user.dto.DeletedUserView;
 import com.ahmet.order_management.user.dto.UserResponse;
 import com.ahmet.order_management.user.entity.User;
 import org.springframework.stereotype.Component;
@@ -48,6 +50,21 @@ public class UserMapper {
                 .build();
     }
     
+    /**
+     * Silinmiş kullanıcı projection'ı -> Response DTO
+     */
+    public DeletedUserResponse toDeletedResponse(DeletedUserView user) {
+        return DeletedUserResponse.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .fullName(user.getFullName())
+                .organizationId(user.getOrganizationId())
+                .organizationName(user.getOrganizationName())
+                .deletedAt(user.getDeletedAt())
+                .build();
+    }
+    
     /**
      * List<Entity> -> List<Response DTO>
      */
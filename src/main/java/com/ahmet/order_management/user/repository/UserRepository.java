@@ -1,10 +1,23 @@
 package com.ahmet.order_management.user.repository;
 
+import com.ahmet.order_management.user.dto.DeletedUserView;
 import com.ahmet.order_management.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User Repository
@@ -24,12 +37,27 @@ import java.util.Optional;
  * - findByEmail(String) → Email ile bul
  * - existsByUsername(String) → Username var mı kontrol et
  * - existsByEmail(String) → Email var mı kontrol et
+ * - findActiveTokenVersion(Long) → Aktif kullanıcının token versiyonu (JWT kontrolü için)
+ * - findAllByOrderByIdAsc / findByIdGreaterThanOrderByIdAsc → Keyset (cursor) sayfalama
+ * - streamByOrganizationId(Long) → Export için server-side cursor ile satır satır okuma
+ * - findByUsernameInOrEmailIn → Toplu import için tek sorguda tekillik kontrolü
+ * - updatePassword(String, String) → Login'de şifre hash'ini yükseltme (rehash)
+ * - existsByOrganizationId(Long) → Organizasyonun aktif kullanıcısı var mı (silme kontrolü)
+ * - findDeleted / restore → Silinmiş kullanıcılar (admin, native sorgu)
+ * 
+ * Soft delete: User üzerindeki @SQLRestriction sayesinde yukarıdaki tüm JPA sorguları
+ * silinmiş satırları otomatik olarak dışarıda bırakır (WHERE deleted_at IS NULL).
  */
 
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    /**
+     * Export sırasında JDBC fetch size ve persistence context temizleme aralığı
+     */
+    int EXPORT_FETCH_SIZE = 500;
+    
     /**
      * Username ile kullanıcı bul
      * gerisini kendisi yapacaktır.
@@ -38,10 +66,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Optional<User> user = userRepository.findByUsername("ahmet");
      * 
      * Spring Data JPA otomatik query oluşturur:
-     * SELECT * FROM users WHERE username = ?
+     * SELECT u.*, o.* FROM users u JOIN organizations o ON ... WHERE username = ?
+     * 
+     * Organization aynı sorguda gelir: open-in-view kapalı, UserMapper organizasyon adını
+     * transaction dışında okur.
      */
+    @EntityGraph(attributePaths = "organization")
     Optional<User> findByUsername(String username);
     
+    /**
+     * ID ile kullanıcı bul (organization aynı sorguda, bkz. findByUsername)
+     */
+    @Override
+    @EntityGraph(attributePaths = "organization")
+    Optional<User> findById(Long id);
+    
     /**
      * Email ile kullanıcı bul
      * 
@@ -78,4 +117,120 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * SELECT COUNT(*) > 0 FROM users WHERE email = ?
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * Organizasyonun silinmemiş kullanıcısı var mı?
+     * 
+     * SELECT 1 FROM users WHERE organization_id = ? AND deleted_at IS NULL LIMIT 1
+     */
+    boolean existsByOrganizationId(Long organizationId);
+    
+    /**
+     * Silinmiş kullanıcılar (admin, keyset sayfalama)
+     * 
+     * Native sorgu @SQLRestriction'ı atlar. Organizasyon da silinmiş olabileceği için
+     * entity yerine projection döner (lazy yükleme filtreye takılmaz).
+     */
+    @Query(value = """
+            SELECT u.id AS "id", u.username AS "username", u.email AS "email", u.full_name AS "fullName",
+                   u.organization_id AS "organizationId", o.name AS "organizationName", u.deleted_at AS "deletedAt"
+            FROM users u
+            LEFT JOIN organizations o ON o.id = u.organization_id
+            WHERE u.deleted_at IS NOT NULL AND u.id > :cursor
+            ORDER BY u.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DeletedUserView> findDeleted(@Param("cursor") long cursor, @Param("limit") int limit);
+    
+    /**
+     * Silinmiş kullanıcıyı geri alır (admin)
+     * 
+     * Organizasyonu silinmişse geri alınmaz (0 döner).
+     * Kullanıcı adı/email bu arada başka bir kullanıcıya verildiyse kısmi unique index
+     * ihlali oluşur (DataIntegrityViolationException).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE users SET deleted_at = NULL, updated_at = CURRENT_TIMESTAMP
+            WHERE id = :id AND deleted_at IS NOT NULL
+              AND EXISTS (SELECT 1 FROM organizations o WHERE o.id = users.organization_id AND o.deleted_at IS NULL)
+            """, nativeQuery = true)
+    int restore(@Param("id") Long id);
+    
+    /**
+     * Aktif (silinmemiş ve devre dışı bırakılmamış) kullanıcının token versiyonunu getir
+     * 
+     * Kullanım (Stateless JWT kontrolü):
+     * Tüm entity yerine sadece tek bir kolon okunur.
+     * Kullanıcı pasif veya silinmişse Optional.empty() döner.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.active = true AND u.deletedAt IS NULL")
+    Optional<Long> findActiveTokenVersion(@Param("id") Long id);
+    
+    /**
+     * Sadece şifre hash'ini günceller (Login'de rehash)
+     * 
+     * Entity yüklenmez, diğer kolonlara dokunulmaz:
+     * UPDATE users SET password = ? WHERE username = ?
+     *
+     * Kendi (okuma-yazma) transaction'ında çalışır; login akışında dış transaction yoktur.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+    
+    /**
+     * İlk sayfa (keyset sayfalama)
+     * 
+     * Organization aynı sorguda JOIN ile gelir (UserMapper organizasyon adını okur).
+     * EntityGraph olmasaydı her kullanıcı için ayrı bir organizations sorgusu atılırdı (N+1).
+     * 
+     * SELECT u.*, o.* FROM users u JOIN organizations o ON ... ORDER BY u.id LIMIT ?
+     */
+    @EntityGraph(attributePaths = "organization")
+    List<User> findAllByOrderByIdAsc(Limit limit);
+    
+    /**
+     * Cursor'dan sonraki sayfa (keyset sayfalama)
+     * OFFSET kullanılmaz, primary key index'i üzerinden okunur.
+     * 
+     * SELECT u.*, o.* FROM users u JOIN organizations o ON ... WHERE u.id > ? ORDER BY u.id LIMIT ?
+     */
+    @EntityGraph(attributePaths = "organization")
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    /**
+     * Organizasyonun tüm kullanıcılarını Stream olarak döner (Export için)
+     * 
+     * - Fetch size: PostgreSQL JDBC sürücüsü satırları 500'erli parçalar halinde getirir
+     *   (server-side cursor). Sadece transaction içinde (autocommit kapalı) çalışır.
+     * - Read-only: Hibernate dirty checking snapshot'ı tutmaz.
+     * - Stream mutlaka try-with-resources ile ve @Transactional metod içinde kapatılmalı.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u JOIN FETCH u.organization o WHERE o.id = :organizationId ORDER BY u.id")
+    Stream<User> streamByOrganizationId(@Param("organizationId") Long organizationId);
+    
+    /**
+     * Verilen username VEYA email'lerden herhangi birine sahip kullanıcılar (Toplu import)
+     * 
+     * Tüm batch için tek sorgu atılır, sadece id/username/email kolonları okunur:
+     * SELECT id, username, email FROM users WHERE username IN (...) OR email IN (...)
+     */
+    List<UserKeyView> findByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
+    
+    /**
+     * Sadece tekillik kontrolü için gereken kolonlar (closed projection)
+     */
+    interface UserKeyView {
+        Long getId();
+        
+        String getUsername();
+        
+        String getEmail();
+    }
 }
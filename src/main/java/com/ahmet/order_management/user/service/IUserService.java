@@ -1,12 +1,18 @@
 package com.ahmet.order_management.user.service;
 
+import com.ahmet.order_management.common.dto.CursorPage;
+import com.ahmet.order_management.user.dto.BulkUserImportResult;
+import com.ahmet.order_management.user.dto.DeletedUserView;
+import com.ahmet.order_management.user.dto.UserRequest;
 import com.ahmet.order_management.user.entity.Role;
 import com.ahmet.order_management.user.entity.User;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IUserService {
     
-    List<User> getAllUsers();
+    CursorPage<User> getUsers(Long cursor, int limit);
     
     User getUserById(Long id);
     
@@ -14,9 +20,21 @@ public interface IUserService {
     
     User createUser(String username, String email, String password, String fullName, Role role, Long organizationId);
     
+    List<BulkUserImportResult> importUsers(List<UserRequest> requests);
+    
     User updateUser(Long id, String email, String fullName);
     
     void changePassword(Long id, String newPassword);
     
+    User changeActiveStatus(Long id, boolean active);
+    
     void deleteUser(Long id);
+    
+    CursorPage<DeletedUserView> getDeletedUsers(Long cursor, int limit);
+    
+    User restoreUser(Long id);
+    
+    void revokeTokens(Long id);
+    
+    long exportUsers(Long organizationId, Consumer<User> consumer);
 }
@@ -1,20 +1,40 @@
 package com.ahmet.order_management.user.service.impl;
 
+import com.ahmet.order_management.auth.security.PasswordHashingPool;
+import com.ahmet.order_management.auth.security.UserDetailsCache;
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.auth.service.RefreshTokenService;
+import com.ahmet.order_management.auth.service.TokenVersionService;
+import com.ahmet.order_management.common.dto.CursorPage;
 import com.ahmet.order_management.common.exception.BusinessException;
 import com.ahmet.order_management.common.exception.NotFoundException;
 import com.ahmet.order_management.organization.entity.Organization;
 import com.ahmet.order_management.organization.repository.OrganizationRepository;
+import com.ahmet.order_management.user.dto.BulkUserImportResult;
+import com.ahmet.order_management.user.dto.DeletedUserView;
+import com.ahmet.order_management.user.dto.UserRequest;
 import com.ahmet.order_management.user.entity.Role;
 import com.ahmet.order_management.user.entity.User;
 import com.ahmet.order_management.user.repository.UserRepository;
 import com.ahmet.order_management.user.service.IUserService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,11 +45,28 @@ public class UserServiceImpl implements IUserService {
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionService tokenVersionService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserDetailsCache userDetailsCache;
+    private final EntityManager entityManager;
+    private final PasswordHashingPool passwordHashingPool;
+    
+    @Value("${user.bulk-import.batch-size:100}")
+    private int importBatchSize;
     
     @Override
-    public List<User> getAllUsers() {
-        log.debug("Tüm kullanıcılar getiriliyor");
-        return userRepository.findAll();
+    public CursorPage<User> getUsers(Long cursor, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        log.debug("Kullanıcılar getiriliyor: cursor={}, limit={}", cursor, pageSize);
+        
+        // Sonraki sayfa var mı anlamak için bir fazla kayıt çekilir
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<User> rows = cursor == null
+                ? userRepository.findAllByOrderByIdAsc(fetchLimit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(cursor, fetchLimit);
+        
+        return CursorPage.of(rows, pageSize, User::getId);
     }
     
     @Override
@@ -81,6 +118,122 @@ public class UserServiceImpl implements IUserService {
         return saved;
     }
     
+    /**
+     * Toplu kullanıcı oluşturma
+     * 
+     * createUser ile aynı kurallar, ama satır başına sorgu yerine:
+     * 1. Username/email tekilliği tüm batch için TEK sorgu ile kontrol edilir
+     * 2. Organizasyonlar TEK sorgu ile doğrulanır
+     * 3. Şifreler sınırlı bir thread havuzunda paralel hash'lenir
+     * 4. Satırlar JDBC batch ile yazılır
+     * 
+     * Hatalı satırlar diğerlerini engellemez, her satır için sonuç döner.
+     */
+    @Override
+    @Transactional
+    public List<BulkUserImportResult> importUsers(List<UserRequest> requests) {
+        log.info("Toplu kullanıcı import başladı: count={}", requests.size());
+        
+        BulkUserImportResult[] results = new BulkUserImportResult[requests.size()];
+        
+        // 1. Mevcut username/email'ler (tek sorgu)
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        userRepository.findByUsernameInOrEmailIn(
+                requests.stream().map(UserRequest::getUsername).collect(Collectors.toSet()),
+                requests.stream().map(UserRequest::getEmail).collect(Collectors.toSet())
+        ).forEach(existing -> {
+            takenUsernames.add(existing.getUsername());
+            takenEmails.add(existing.getEmail());
+        });
+        
+        // 2. Var olan organizasyonlar (tek sorgu)
+        Set<Long> organizationIds = organizationRepository.findAllById(
+                requests.stream().map(UserRequest::getOrganizationId).collect(Collectors.toSet())
+        ).stream().map(Organization::getId).collect(Collectors.toSet());
+        
+        // 3. Satır kontrolleri (batch içindeki tekrarlar da yakalanır)
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserRequest request = requests.get(i);
+            String error = null;
+            
+            if (takenUsernames.contains(request.getUsername())) {
+                error = "Bu username zaten kullanılıyor: " + request.getUsername();
+            } else if (takenEmails.contains(request.getEmail())) {
+                error = "Bu email zaten kullanılıyor: " + request.getEmail();
+            } else if (!organizationIds.contains(request.getOrganizationId())) {
+                error = "Organizasyon bulunamadı: " + request.getOrganizationId();
+            }
+            
+            if (error != null) {
+                results[i] = BulkUserImportResult.builder()
+                        .index(i)
+                        .username(request.getUsername())
+                        .success(false)
+                        .error(error)
+                        .build();
+            } else {
+                takenUsernames.add(request.getUsername());
+                takenEmails.add(request.getEmail());
+                accepted.add(i);
+            }
+        }
+        
+        if (!accepted.isEmpty()) {
+            // 4. Şifreleri paralel hash'le
+            List<String> encodedPasswords = passwordHashingPool.encodeAll(
+                    accepted.stream().map(i -> requests.get(i).getPassword()).toList());
+            
+            // 5. JDBC batch insert
+            // id'ler pooled sequence'tan geldiği için Hibernate INSERT'leri batch'ler
+            // (hibernate.jdbc.batch_size). Her parçadan sonra flush + clear ile bellek sabit kalır.
+            List<User> chunk = new ArrayList<>(importBatchSize);
+            try {
+                for (int row = 0; row < accepted.size(); row++) {
+                    int index = accepted.get(row);
+                    UserRequest request = requests.get(index);
+                    
+                    User user = User.builder()
+                            .username(request.getUsername())
+                            .email(request.getEmail())
+                            .password(encodedPasswords.get(row))
+                            .fullName(request.getFullName())
+                            .role(request.getRole())
+                            .active(true)
+                            .organization(entityManager.getReference(Organization.class, request.getOrganizationId()))
+                            .build();
+                    chunk.add(user);
+                    
+                    if (chunk.size() == importBatchSize || row == accepted.size() - 1) {
+                        userRepository.saveAll(chunk);
+                        userRepository.flush();
+                        entityManager.clear();
+                        
+                        // 6. id'ler persist sırasında atandı, ekstra sorgu gerekmez
+                        int firstRow = row - chunk.size() + 1;
+                        for (int i = 0; i < chunk.size(); i++) {
+                            int requestIndex = accepted.get(firstRow + i);
+                            results[requestIndex] = BulkUserImportResult.builder()
+                                    .index(requestIndex)
+                                    .username(chunk.get(i).getUsername())
+                                    .success(true)
+                                    .id(chunk.get(i).getId())
+                                    .build();
+                        }
+                        chunk.clear();
+                    }
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Kontrol ile insert arasında başka bir istek aynı username/email'i almış
+                throw new BusinessException("Toplu import sırasında eşzamanlı bir kayıt ile çakışma oldu, tekrar deneyin", e);
+            }
+        }
+        
+        log.info("Toplu kullanıcı import tamamlandı: total={}, created={}", requests.size(), accepted.size());
+        return Arrays.asList(results);
+    }
+    
     @Override
     @Transactional
     public User updateUser(Long id, String email, String fullName) {
@@ -96,6 +249,7 @@ public class UserServiceImpl implements IUserService {
         user.setFullName(fullName);
         
         User updated = userRepository.save(user);
+        userDetailsCache.evict(updated.getUsername());
         log.info("Kullanıcı güncellendi: id={}, username={}", updated.getId(), updated.getUsername());
         
         return updated;
@@ -111,10 +265,40 @@ public class UserServiceImpl implements IUserService {
         String encodedPassword = passwordEncoder.encode(newPassword);
         user.setPassword(encodedPassword);
         
+        // Eski şifre ile alınmış token'lar geçersiz olsun
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        
         userRepository.save(user);
+        tokenVersionService.update(user.getId(), user.getTokenVersion());
+        refreshTokenService.revokeAll(user.getId());
+        userDetailsCache.evict(user.getUsername());
         log.info("Kullanıcı şifresi değiştirildi: id={}", id);
     }
     
+    @Override
+    @Transactional
+    public User changeActiveStatus(Long id, boolean active) {
+        log.info("Kullanıcı aktiflik durumu değiştiriliyor: id={}, active={}", id, active);
+        
+        User user = getUserById(id);
+        user.setActive(active);
+        
+        // Pasif edilen kullanıcının mevcut token'ları anında geçersiz olsun
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        
+        User updated = userRepository.save(user);
+        if (active) {
+            tokenVersionService.update(updated.getId(), updated.getTokenVersion());
+        } else {
+            tokenVersionService.revoke(updated.getId());
+            refreshTokenService.revokeAll(updated.getId());
+        }
+        userDetailsCache.evict(updated.getUsername());
+        
+        log.info("Kullanıcı aktiflik durumu değiştirildi: id={}, active={}", id, active);
+        return updated;
+    }
+    
     @Override
     @Transactional
     public void deleteUser(Long id) {
@@ -123,8 +307,91 @@ public class UserServiceImpl implements IUserService {
         User user = getUserById(id);
         
         user.setDeletedAt(java.time.LocalDateTime.now());
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersionService.revoke(user.getId());
+        refreshTokenService.revokeAll(user.getId());
+        userDetailsCache.evict(user.getUsername());
         
         log.info("Kullanıcı silindi (soft delete): id={}", id);
     }
+    
+    @Override
+    public CursorPage<DeletedUserView> getDeletedUsers(Long cursor, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        log.debug("Silinmiş kullanıcılar getiriliyor: cursor={}, limit={}", cursor, pageSize);
+        
+        List<DeletedUserView> rows = userRepository.findDeleted(cursor == null ? 0 : cursor, pageSize + 1);
+        
+        return CursorPage.of(rows, pageSize, DeletedUserView::getId);
+    }
+    
+    @Override
+    @Transactional
+    public User restoreUser(Long id) {
+        log.info("Kullanıcı geri alınıyor: id={}", id);
+        
+        int restored;
+        try {
+            restored = userRepository.restore(id);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("Kullanıcı geri alınamadı: kullanıcı adı veya email başka bir kullanıcı tarafından kullanılıyor");
+        }
+        
+        if (restored == 0) {
+            throw new NotFoundException("Geri alınabilecek silinmiş kullanıcı bulunamadı: " + id);
+        }
+        
+        // deleteUser versiyonu REVOKED olarak cache'lemişti; geri alınan kullanıcının
+        // yeni token'ları reddedilmesin. Silinmeden önceki token'lar eski versiyonda kalır.
+        User user = getUserById(id);
+        tokenVersionService.update(user.getId(), user.getTokenVersion());
+        userDetailsCache.evict(user.getUsername());
+        
+        log.info("Kullanıcı geri alındı: id={}", id);
+        return user;
+    }
+    
+    /**
+     * Kullanıcının tüm oturumlarını kapatır
+     * - Şu ana kadar üretilmiş access token'lar not-before ile geçersiz olur (tüm node'lar, sync aralığı içinde)
+     * - Refresh token'lar iptal edilir
+     * Token versiyonu değişmez; kullanıcı tekrar giriş yapabilir.
+     */
+    @Override
+    @Transactional
+    public void revokeTokens(Long id) {
+        User user = getUserById(id);
+        
+        tokenRevocationList.revokeAllBefore(user.getId());
+        refreshTokenService.revokeAll(user.getId());
+        
+        log.info("Kullanıcının tüm oturumları kapatıldı: id={}", id);
+    }
+    
+    /**
+     * Organizasyonun kullanıcılarını tek tek consumer'a verir (Export için)
+     * 
+     * Read-only transaction boyunca server-side cursor açık kalır.
+     * Her EXPORT_FETCH_SIZE kayıtta persistence context temizlenir,
+     * böylece bellek kullanımı tablo boyutundan bağımsız sabit kalır.
+     */
+    @Override
+    public long exportUsers(Long organizationId, Consumer<User> consumer) {
+        log.info("Kullanıcı export başladı: organizationId={}", organizationId);
+        
+        long count = 0;
+        try (Stream<User> users = userRepository.streamByOrganizationId(organizationId)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                consumer.accept(user);
+                
+                if (++count % UserRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        
+        log.info("Kullanıcı export tamamlandı: organizationId={}, count={}", organizationId, count);
+        return count;
+    }
 }
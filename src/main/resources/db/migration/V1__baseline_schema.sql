@@ -0,0 +1,36 @@
+-- ============================================
+-- V1: Başlangıç şeması
+-- ============================================
+-- Flyway'den önce tablolar Hibernate (ddl-auto: update) ile oluşturuluyordu.
+-- Boş bir veritabanında aynı şemayı kurar; mevcut veritabanında hiçbir şey yapmaz
+-- (IF NOT EXISTS). Sonraki migration'lar bu şemanın üzerine kurulur.
+
+CREATE TABLE IF NOT EXISTS organizations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    name        VARCHAR(100) NOT NULL UNIQUE,
+    description VARCHAR(500),
+    active      BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    deleted_at      TIMESTAMP(6),
+    username        VARCHAR(50)  NOT NULL UNIQUE,
+    email           VARCHAR(100) NOT NULL UNIQUE,
+    password        VARCHAR(255) NOT NULL,
+    full_name       VARCHAR(100),
+    role            VARCHAR(20)  NOT NULL CHECK (role IN ('ADMIN', 'USER')),
+    active          BOOLEAN      NOT NULL,
+    token_version   BIGINT       DEFAULT 0 NOT NULL,
+    organization_id BIGINT       NOT NULL REFERENCES organizations (id)
+);
+
+-- Eski şemada olmayabilir (Hibernate update ile eklenen kolon)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_organization_id ON users (organization_id, id);
@@ -0,0 +1,26 @@
+-- ============================================
+-- V2: IDENTITY -> pooled sequence
+-- ============================================
+-- IDENTITY kolonlarında Hibernate her INSERT'i id almak için hemen çalıştırmak
+-- zorunda, bu yüzden hibernate.jdbc.batch_size / order_inserts işe yaramıyordu.
+-- Artık id'ler 50'şerli bloklar halinde sequence'tan alınır (pooled optimizer):
+-- tek nextval() çağrısı ile 50 id bellekte üretilir ve INSERT'ler batch'lenir.
+--
+-- Sequence isimleri Hibernate'in varsayılanı: <tablo>_seq, increment 50.
+-- Başlangıç değeri mevcut en büyük id'nin üstüne ayarlanır; pooled optimizer
+-- nextval() = N döndüğünde (N-49 .. N) aralığını kullanır, çakışma olmaz.
+
+CREATE SEQUENCE IF NOT EXISTS organizations_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+
+SELECT setval('organizations_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM organizations));
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
+
+-- IDENTITY kaldırılır; elle yazılan INSERT'ler için varsayılan sequence olur
+ALTER TABLE organizations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE organizations ALTER COLUMN id SET DEFAULT nextval('organizations_seq');
+ALTER SEQUENCE organizations_seq OWNED BY organizations.id;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
@@ -0,0 +1,31 @@
+-- ============================================
+-- V3: Refresh token deposu
+-- ============================================
+-- Access token'lar kısa ömürlü (dakikalar) ve sadece claim'lerden doğrulanır.
+-- Uzun ömürlü refresh token'lar burada, sadece SHA-256 özeti ile saklanır.
+--
+-- - token_hash: Refresh isteğinde tek satır okunur (unique index)
+-- - family_id:  Reuse tespitinde aile toplu iptal edilir
+-- - user_id:    Şifre değişikliği / pasifleştirmede kullanıcının tüm token'ları iptal edilir;
+--               kullanıcı fiziksel olarak silinirse token'ları da silinir (ON DELETE CASCADE)
+
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id          BIGINT       DEFAULT nextval('refresh_tokens_seq') PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    token_hash  VARCHAR(64)  NOT NULL,
+    family_id   VARCHAR(36)  NOT NULL,
+    user_id     BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    used_at     TIMESTAMP(6),
+    revoked_at  TIMESTAMP(6)
+);
+
+ALTER SEQUENCE refresh_tokens_seq OWNED BY refresh_tokens.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
@@ -0,0 +1,28 @@
+-- ============================================
+-- V4: Access token iptal listesi
+-- ============================================
+-- Access token'lar claim'lerden doğrulanır; iptal bilgisi bellekte tutulur
+-- (TokenRevocationList) ve açılışta bu tablolardan yüklenir.
+--
+-- revoked_tokens:  Tek tek iptal edilen token'lar (logout). jti 64-bit sayı.
+--                  Satır token'ın süresi dolana kadar gerekir (expires_at), sonra silinir.
+-- token_not_before: Kullanıcının bu zamandan önce üretilmiş tüm token'ları geçersiz.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti         BIGINT       PRIMARY KEY,
+    user_id     BIGINT,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    revoked_at  TIMESTAMP(6) NOT NULL
+);
+
+-- Node'lar arası senkronizasyon (revoked_at > son okuma) ve temizlik (expires_at < now)
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS token_not_before (
+    user_id     BIGINT       PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    not_before  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_not_before_updated_at ON token_not_before (updated_at);
@@ -0,0 +1,42 @@
+-- ============================================
+-- V5: Soft delete için kısmi (partial) unique index'ler
+-- ============================================
+-- users.username, users.email ve organizations.name üzerindeki tam tablo UNIQUE
+-- kısıtları kaldırılır; tekillik sadece silinmemiş (deleted_at IS NULL) satırlar
+-- için geçerli olur. Böylece:
+--   - Silinmiş kullanıcının adı/email'i yeniden kullanılabilir
+--   - Entity'lerdeki @SQLRestriction("deleted_at IS NULL") ile yapılan aramalar
+--     silinmiş satırlar biriktikçe büyümeyen küçük index'ten okunur
+--   - INCLUDE (id) sayesinde existsBy* sorguları index-only scan ile biter
+
+-- Kısıt adları ortama göre değişir (V1: users_username_key, Hibernate: uk_...),
+-- bu yüzden katalogdan tek kolonlu UNIQUE kısıtlar bulunup kaldırılır.
+DO $$
+DECLARE
+    c RECORD;
+BEGIN
+    FOR c IN
+        SELECT con.conrelid::regclass AS table_name, con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND ((con.conrelid = 'users'::regclass AND att.attname IN ('username', 'email'))
+            OR (con.conrelid = 'organizations'::regclass AND att.attname = 'name'))
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', c.table_name, c.conname);
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_username_active
+    ON users (username) INCLUDE (id) WHERE deleted_at IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_active
+    ON users (email) INCLUDE (id) WHERE deleted_at IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_organizations_name_active
+    ON organizations (name) INCLUDE (id) WHERE deleted_at IS NULL;
+
+-- Silinmiş kullanıcı listesi (admin): WHERE deleted_at IS NOT NULL AND id > ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_users_deleted
+    ON users (id) WHERE deleted_at IS NOT NULL;
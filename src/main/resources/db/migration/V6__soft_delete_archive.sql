@@ -0,0 +1,46 @@
+-- ============================================
+-- V6: Soft delete arşiv tabloları
+-- ============================================
+-- Saklama süresi dolmuş silinmiş satırlar SoftDeleteArchiveJob tarafından
+-- canlı tablolardan buraya taşınır. Canlı tablolar ve index'leri (login'de
+-- okunan username index'i dahil) böylece silinmiş satırlarla büyümez.
+--
+-- Arşiv tablolarında kısıt / foreign key yoktur: satırlar sadece denetim ve
+-- gerektiğinde elle geri yükleme için tutulur.
+
+CREATE TABLE IF NOT EXISTS organizations_archive (
+    id          BIGINT       PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    active      BOOLEAN      NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS users_archive (
+    id              BIGINT       PRIMARY KEY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    deleted_at      TIMESTAMP(6) NOT NULL,
+    username        VARCHAR(50)  NOT NULL,
+    email           VARCHAR(100) NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    full_name       VARCHAR(100),
+    role            VARCHAR(20)  NOT NULL,
+    active          BOOLEAN      NOT NULL,
+    token_version   BIGINT       NOT NULL,
+    organization_id BIGINT       NOT NULL,
+    archived_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_archive_organization_id ON users_archive (organization_id);
+
+-- Arşivlenecek satırları bulmak: WHERE deleted_at < ? ORDER BY deleted_at LIMIT ?
+-- (kısmi: sadece silinmiş satırları içerir, canlı trafiğe yük getirmez)
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at
+    ON users (deleted_at) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_organizations_deleted_at
+    ON organizations (deleted_at) WHERE deleted_at IS NOT NULL;
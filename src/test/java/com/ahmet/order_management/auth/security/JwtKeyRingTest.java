@@ -0,0 +1,36 @@
+package com.ahmet.order_management.auth.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    @Test
+    void hmacModeVerifiesTokensWithoutKid() {
+        assertThat(keyRing(JwtKeyRing.HMAC, null).verificationKey(null)).isNotNull();
+    }
+
+    @Test
+    void asymmetricModeRejectsLegacyTokensByDefault() {
+        assertThat(keyRing("RS256", null).verificationKey(null)).isNull();
+    }
+
+    @Test
+    void legacyTokensAreAcceptedOnlyUntilConfiguredInstant() {
+        assertThat(keyRing("ES256", Instant.now().plus(Duration.ofMinutes(15))).verificationKey(null)).isNotNull();
+        assertThat(keyRing("ES256", Instant.now().minusSeconds(1)).verificationKey(null)).isNull();
+    }
+
+    private static JwtKeyRing keyRing(String algorithm, Instant acceptLegacyHmacUntil) {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setAcceptLegacyHmacUntil(acceptLegacyHmacUntil);
+        return new JwtKeyRing(properties, SECRET);
+    }
+}
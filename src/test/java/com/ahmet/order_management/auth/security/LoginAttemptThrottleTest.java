@@ -0,0 +1,69 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptThrottleTest {
+
+    private final LoginAttemptThrottle throttle = new LoginAttemptThrottle(
+            true, 5, Duration.ofMinutes(15), 50, Duration.ofMinutes(15), 1_000, new SimpleMeterRegistry());
+
+    /**
+     * Sonuç beklenirken (hash sürerken) gelen paralel denemeler de limite sayılır
+     */
+    @Test
+    void parallelBurstAgainstOneUsernameIsCappedBeforeHashing() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            attempts.add(() -> {
+                try {
+                    throttle.tryAcquire("Victim", "10.0.0.1");
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            });
+        }
+
+        int admitted = 0;
+        try {
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                admitted += result.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted).isEqualTo(5);
+    }
+
+    @Test
+    void successAndReleaseGiveTheSlotBack() {
+        for (int i = 0; i < 4; i++) {
+            throttle.tryAcquire("alice", "10.0.0.2").failure();
+        }
+        throttle.tryAcquire("alice", "10.0.0.2").release();
+        throttle.tryAcquire("ALICE", "10.0.0.2").failure();
+
+        assertThatThrownBy(() -> throttle.tryAcquire("alice", "10.0.0.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // Başka bir kullanıcının başarılı girişi aynı IP'den gelen hataları silmez
+        throttle.tryAcquire("bob", "10.0.0.2").success();
+        assertThatThrownBy(() -> throttle.tryAcquire("alice", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ahmet.order_management.auth.security;
+
+import com.ahmet.order_management.auth.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationListTest {
+
+    private static final long PERSISTED_JTI = 7_000_000_001L;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        // DB'de daha önce iptal edilmiş bir jti (açılışta yüklenir)
+        doAnswer(invocation -> {
+            invocation.<TokenRevocationRepository.RevokedTokenHandler>getArgument(2)
+                    .handle(PERSISTED_JTI, Instant.now());
+            return null;
+        }).when(repository).forEachRevokedToken(any(), any(), any());
+
+        revocationList = new TokenRevocationList(repository, 1_000, 0.01, 900_000, new SimpleMeterRegistry());
+        revocationList.load();
+    }
+
+    @Test
+    void revokedJtiIsRejected() {
+        VerifiedToken token = token(42L, 1L, Instant.now());
+
+        assertThat(revocationList.isRevoked(token)).isFalse();
+        assertThat(revocationList.revoke(token)).isTrue();
+        assertThat(revocationList.isRevoked(token)).isTrue();
+        assertThat(revocationList.isRevoked(token(43L, 1L, Instant.now()))).isFalse();
+    }
+
+    @Test
+    void jtiLoadedFromDatabaseIsRejected() {
+        assertThat(revocationList.isRevoked(token(PERSISTED_JTI, 1L, Instant.now()))).isTrue();
+    }
+
+    @Test
+    void tokensIssuedBeforeNotBeforeAreRejected() {
+        Instant issuedBefore = Instant.now().minusSeconds(60);
+
+        revocationList.revokeAllBefore(1L);
+
+        assertThat(revocationList.isRevoked(token(100L, 1L, issuedBefore))).isTrue();
+        assertThat(revocationList.isRevoked(token(101L, 2L, issuedBefore))).as("başka kullanıcı").isFalse();
+        assertThat(revocationList.isRevoked(token(102L, 1L, Instant.now().plusSeconds(2)))).as("sonra alınan token").isFalse();
+    }
+
+    @Test
+    void legacyTokensWithoutJtiAreNotRevocableIndividually() {
+        VerifiedToken legacy = VerifiedToken.builder().subject("legacy").build();
+
+        assertThat(revocationList.revoke(legacy)).isFalse();
+        assertThat(revocationList.isRevoked(legacy)).isFalse();
+    }
+
+    private static VerifiedToken token(long jti, long userId, Instant issuedAt) {
+        return VerifiedToken.builder()
+                .subject("user-" + userId)
+                .tokenId(jti)
+                .userId(userId)
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(900))
+                .build();
+    }
+}
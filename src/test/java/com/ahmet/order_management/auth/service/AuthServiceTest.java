@@ -0,0 +1,56 @@
+package com.ahmet.order_management.auth.service;
+
+import com.ahmet.order_management.auth.dto.LoginRequest;
+import com.ahmet.order_management.auth.security.LoginAttemptThrottle;
+import com.ahmet.order_management.auth.security.PasswordVerificationPool;
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.common.exception.TooManyRequestsException;
+import com.ahmet.order_management.common.util.JwtUtil;
+import com.ahmet.order_management.user.service.IUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final LoginAttemptThrottle throttle = new LoginAttemptThrottle(
+            true, 5, Duration.ofMinutes(15), 50, Duration.ofMinutes(15), 1_000, new SimpleMeterRegistry());
+
+    private final PasswordVerificationPool pool = mock(PasswordVerificationPool.class);
+
+    private final AuthService authService = new AuthService(
+            mock(AuthenticationManager.class), mock(JwtUtil.class), mock(IUserService.class),
+            pool, mock(RefreshTokenService.class), mock(TokenRevocationList.class), throttle);
+
+    /**
+     * Kuyrukta bekleme süresi aşılan (hiç hash'lenmeyen) denemeler kullanıcıyı kilitlememeli
+     */
+    @Test
+    void queueTimeoutsDoNotCountAsFailedAttempts() {
+        when(pool.submit(any())).thenAnswer(invocation -> CompletableFuture.failedFuture(
+                new TooManyRequestsException("Giriş servisi şu anda yoğun, lütfen tekrar deneyin", 1)));
+
+        for (int i = 0; i < 10; i++) {
+            CompletableFuture<?> result = authService.login(request("alice"), "10.0.0.1");
+            assertThat(result).isCompletedExceptionally();
+        }
+
+        assertThatCode(() -> throttle.tryAcquire("alice", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    private static LoginRequest request(String username) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword("wrong");
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+package com.ahmet.order_management.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID üretim stratejisi benchmark'ı (inserts/sec)
+ *
+ * 10.000 kullanıcı satırını Hibernate ile yazar:
+ * - IDENTITY: Her INSERT id almak için anında çalıştırılır, JDBC batch devre dışı.
+ * - SEQUENCE: Pooled sequence (increment 50), INSERT'ler batch_size=20 ile gruplanır.
+ *
+ * Varsayılan olarak gömülü H2 kullanır (ağ gecikmesi yok, fark PostgreSQL'e göre küçük çıkar).
+ * Gerçek ölçüm için PostgreSQL verin:
+ *   -Dbench.url=jdbc:postgresql://localhost:5432/order_management -Dbench.user=admin -Dbench.password=admin123
+ *
+ * Çalıştırma:
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ahmet.order_management.benchmark.IdGenerationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class IdGenerationBenchmark {
+
+    private static final int USERS_PER_INVOCATION = 10_000;
+    private static final int BATCH_SIZE = 20;
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    private String strategy;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityUser.class)
+                .addAnnotatedClass(SequenceUser.class)
+                .setProperty("hibernate.connection.url",
+                        System.getProperty("bench.url", "jdbc:h2:mem:idbench;DB_CLOSE_DELAY=-1"))
+                .setProperty("hibernate.connection.username", System.getProperty("bench.user", "sa"))
+                .setProperty("hibernate.connection.password", System.getProperty("bench.password", ""))
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> session
+                .createMutationQuery("DELETE FROM " + entityName())
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public void insertUsers() {
+        boolean identity = "IDENTITY".equals(strategy);
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+                String username = "user-" + System.nanoTime() + "-" + i;
+                session.persist(identity ? new IdentityUser(username) : new SequenceUser(username));
+
+                if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                    flushAndClear(session);
+                }
+            }
+        });
+    }
+
+    private static void flushAndClear(Session session) {
+        session.flush();
+        session.clear();
+    }
+
+    private String entityName() {
+        return "IDENTITY".equals(strategy) ? "IdentityUser" : "SequenceUser";
+    }
+
+    @Entity(name = "IdentityUser")
+    @Table(name = "bench_identity_users")
+    public static class IdentityUser {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false, length = 50)
+        private String username;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String username) {
+            this.username = username;
+        }
+    }
+
+    @Entity(name = "SequenceUser")
+    @Table(name = "bench_sequence_users")
+    public static class SequenceUser {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        private Long id;
+
+        @Column(nullable = false, length = 50)
+        private String username;
+
+        protected SequenceUser() {
+        }
+
+        SequenceUser(String username) {
+            this.username = username;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdGenerationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
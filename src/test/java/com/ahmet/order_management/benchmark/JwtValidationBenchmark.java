@@ -0,0 +1,134 @@
+package com.ahmet.order_management.benchmark;
+
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.JwtKeyProperties;
+import com.ahmet.order_management.auth.security.JwtKeyRing;
+import com.ahmet.order_management.auth.security.VerifiedToken;
+import com.ahmet.order_management.common.util.JwtUtil;
+import com.ahmet.order_management.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT doğrulama benchmark'ı (tokens/sec)
+ *
+ * - legacyTripleParse: Eski akış. Her parse'ta SecretKey + JwtParser yeniden oluşturulur,
+ *   bir istekte token 3 kez doğrulanır (extractUsername + validateToken).
+ * - verifyOnce: Yeni akış. Önceden oluşturulmuş key/parser ile tek doğrulama.
+ * - verifyWithKeyRing: kid ile anahtar seçerek tek doğrulama (HMAC / RS256 / ES256 / EdDSA).
+ *   Asimetrik doğrulama HMAC'ten pahalıdır; VerifiedTokenCache bu farkı tekrar gelen token'larda kapatır.
+ *
+ * Çalıştırma:
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ahmet.order_management.benchmark.JwtValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = newJwtUtil(JwtKeyRing.HMAC);
+        token = jwtUtil.generateToken(benchmarkUser());
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyParse(token).getSubject();
+        // validateToken: extractUsername + extractExpiration
+        boolean sameUser = legacyParse(token).getSubject().equals(username);
+        boolean notExpired = !legacyParse(token).getExpiration().before(new Date());
+        return sameUser && notExpired;
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyWithKeyRing(KeyRingState state) {
+        return state.jwtUtil.verify(state.token);
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeyRingState {
+
+        @Param({"HMAC", "RS256", "ES256", "EdDSA"})
+        private String algorithm;
+
+        private JwtUtil jwtUtil;
+        private String token;
+
+        @Setup
+        public void setup() {
+            // Anahtar tanımlanmadığı için JwtKeyRing geçici bir çift üretir
+            jwtUtil = newJwtUtil(algorithm);
+            token = jwtUtil.generateToken(benchmarkUser());
+        }
+    }
+
+    private static JwtUtil newJwtUtil(String algorithm) {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setAlgorithm(algorithm);
+
+        JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(properties, SECRET));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static AuthenticatedUser benchmarkUser() {
+        return AuthenticatedUser.builder()
+                .id(42L)
+                .username("benchmark_user")
+                .role(Role.USER)
+                .organizationId(7L)
+                .tokenVersion(0L)
+                .active(true)
+                .build();
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ahmet.order_management.common.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replica seçimi: gömülü H2 veritabanları primary ve replica yerine kullanılır,
+ * gecikme lag-query ile taklit edilir.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private ReplicaRoutingDataSource routing;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (routing != null) {
+            routing.destroy();
+        }
+    }
+
+    @Test
+    void readsGoToReplicaOnlyWhileHealthyAndWithinMaxLag() throws SQLException {
+        routing = routing("SELECT 0");
+        assertThat(urlOfNextConnection()).as("ilk health check öncesi").isEqualTo(PRIMARY_URL);
+
+        routing.checkReplicas();
+        assertThat(urlOfNextConnection()).isEqualTo(REPLICA_URL);
+
+        routing.destroy();
+        routing = routing("SELECT 30");
+        routing.checkReplicas();
+        assertThat(urlOfNextConnection()).as("max-lag aşıldı").isEqualTo(PRIMARY_URL);
+    }
+
+    @Test
+    void readsAfterCommittedWriteInSameRequestStayOnPrimary() throws SQLException {
+        routing = routing("SELECT 0");
+        routing.checkReplicas();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        TransactionExecution readOnly = transaction(true);
+        new ReadYourWrites().afterCommit(readOnly, null);
+        assertThat(urlOfNextConnection()).isEqualTo(REPLICA_URL);
+
+        TransactionExecution write = transaction(false);
+        new ReadYourWrites().afterCommit(write, null);
+        assertThat(urlOfNextConnection()).isEqualTo(PRIMARY_URL);
+    }
+
+    private ReplicaRoutingDataSource routing(String lagQuery) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(REPLICA_URL);
+        replica.setPoolName("replica-1");
+
+        JdbcDataSource primary = new JdbcDataSource();
+        primary.setURL(PRIMARY_URL);
+
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setLagQuery(lagQuery);
+
+        return new ReplicaRoutingDataSource(List.of(replica), primary, properties, new SimpleMeterRegistry());
+    }
+
+    private String urlOfNextConnection() throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            return connection.getMetaData().getURL() + ";DB_CLOSE_DELAY=-1";
+        }
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        when(transaction.isNewTransaction()).thenReturn(true);
+        return transaction;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ahmet.order_management.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongBloomFilterTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 50_000;
+
+    /**
+     * Aynı kelimelere (word) eşzamanlı CAS ile yazılan bitler kaybolmamalı
+     */
+    @Test
+    void noFalseNegativesUnderConcurrentPut() throws Exception {
+        LongBloomFilter filter = new LongBloomFilter(THREADS * PER_THREAD, 0.01);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                long base = (long) t * PER_THREAD;
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (long value = base + 1; value <= base + PER_THREAD; value++) {
+                        filter.put(value);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (long value = 1; value <= (long) THREADS * PER_THREAD; value++) {
+            assertThat(filter.mightContain(value)).as("value %d", value).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        LongBloomFilter filter = new LongBloomFilter(100_000, 0.01);
+        for (long value = 1; value <= 100_000; value++) {
+            filter.put(value);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+}
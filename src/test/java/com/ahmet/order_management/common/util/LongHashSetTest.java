@@ -0,0 +1,50 @@
+package com.ahmet.order_management.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongHashSetTest {
+
+    @Test
+    void keepsAllValuesAcrossResizes() {
+        LongHashSet set = new LongHashSet(4);
+
+        for (long value = 1; value <= 10_000; value++) {
+            assertThat(set.add(value * 31)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        for (long value = 1; value <= 10_000; value++) {
+            assertThat(set.contains(value * 31)).isTrue();
+            assertThat(set.contains(value * 31 + 1)).isFalse();
+        }
+    }
+
+    @Test
+    void duplicatesAndNegativeValuesAreHandled() {
+        LongHashSet set = new LongHashSet(16);
+
+        assertThat(set.add(-42)).isTrue();
+        assertThat(set.add(-42)).isFalse();
+        assertThat(set.add(Long.MIN_VALUE)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+
+        Set<Long> visited = new HashSet<>();
+        set.forEach(visited::add);
+        assertThat(visited).containsExactlyInAnyOrder(-42L, Long.MIN_VALUE);
+    }
+
+    @Test
+    void zeroIsRejected() {
+        LongHashSet set = new LongHashSet(16);
+
+        assertThatThrownBy(() -> set.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+}
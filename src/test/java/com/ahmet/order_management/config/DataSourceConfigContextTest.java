@@ -0,0 +1,60 @@
+package com.ahmet.order_management.config;
+
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.common.jdbc.ConnectionPoolSampler;
+import com.ahmet.order_management.common.jdbc.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uygulama context'i (PostgreSQL yerine gömülü H2) ayağa kalkıyor mu?
+ *
+ * DataSource yönlendirmesi ve @Scheduled ayarları (örn: fixedDelayString biçimi)
+ * sadece context oluşturulurken doğrulanır; birim testleri bu hataları yakalamaz.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:context-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.datasource.read.lag-query=SELECT 0",
+        "security.password.bcrypt-strength=4"
+})
+class DataSourceConfigContextTest {
+
+    /** Açılışta PostgreSQL tablolarını (V4) okur; şema burada Hibernate ile kurulur */
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Autowired
+    private ReplicaRoutingDataSource readDataSource;
+
+    @Test
+    void contextStartsWithReplicaHealthCheckAndPoolSamplingScheduled() {
+        Set<Class<?>> scheduledTargets = scheduledTaskHolder.getScheduledTasks().stream()
+                .map(ScheduledTask::getTask)
+                .map(task -> task.getRunnable())
+                .filter(ScheduledMethodRunnable.class::isInstance)
+                .map(runnable -> ((ScheduledMethodRunnable) runnable).getTarget().getClass())
+                .collect(Collectors.toSet());
+
+        assertThat(scheduledTargets).contains(ReplicaRoutingDataSource.class, ConnectionPoolSampler.class);
+        assertThat(readDataSource.getReplicaPools()).singleElement()
+                .satisfies(pool -> assertThat(pool.isReadOnly()).isTrue());
+    }
+}
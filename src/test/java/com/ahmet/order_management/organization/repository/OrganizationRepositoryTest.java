@@ -0,0 +1,89 @@
+package com.ahmet.order_management.organization.repository;
+
+import com.ahmet.order_management.config.HibernateCacheConfig;
+import com.ahmet.order_management.config.JpaConfig;
+import com.ahmet.order_management.organization.entity.Organization;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Organization 2. seviye cache'inin ve isim sorgusu query cache'inin çalıştığını doğrular.
+ *
+ * READ_WRITE region'lar commit'e kadar kilitli kaldığı için test transaction'ı kapatılır;
+ * her repository çağrısı kendi transaction'ında commit olur.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({JpaConfig.class, HibernateCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganizationRepositoryTest {
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        organizationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findByIdIsServedFromSecondLevelCache() {
+        Long id = persist("cached-org").getId();
+
+        organizationRepository.findById(id);
+        statistics.clear();
+
+        Organization organization = organizationRepository.findById(id).orElseThrow();
+
+        assertThat(organization.getName()).isEqualTo("cached-org");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Organization.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void existsByNameIsServedFromQueryCacheUntilTableChanges() {
+        persist("query-org");
+
+        assertThat(organizationRepository.existsByName("query-org")).isTrue();
+        statistics.clear();
+
+        assertThat(organizationRepository.existsByName("query-org")).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Tabloya yazım query cache'ini geçersiz kılar
+        persist("other-org");
+        statistics.clear();
+
+        assertThat(organizationRepository.existsByName("query-org")).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Organization persist(String name) {
+        return organizationRepository.save(Organization.builder().name(name).build());
+    }
+}
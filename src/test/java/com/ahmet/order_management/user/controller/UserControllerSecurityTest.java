@@ -0,0 +1,119 @@
+package com.ahmet.order_management.user.controller;
+
+import com.ahmet.order_management.auth.security.AuthenticatedUser;
+import com.ahmet.order_management.auth.security.TokenRevocationList;
+import com.ahmet.order_management.common.util.JwtUtil;
+import com.ahmet.order_management.organization.entity.Organization;
+import com.ahmet.order_management.organization.repository.OrganizationRepository;
+import com.ahmet.order_management.user.entity.Role;
+import com.ahmet.order_management.user.entity.User;
+import com.ahmet.order_management.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Admin endpoint'leri USER rolündeki token ile 403 dönmeli
+ *
+ * Gerçek JWT ile istek atılır (JwtAuthenticationFilter + SecurityConfig); PostgreSQL yerine gömülü H2.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:context-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.datasource.read.lag-query=SELECT 0",
+        "security.password.bcrypt-strength=4"
+})
+@AutoConfigureMockMvc
+class UserControllerSecurityTest {
+
+    /** Açılışta PostgreSQL tablolarını (V4) okur; şema burada Hibernate ile kurulur */
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private User user;
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationRepository.save(Organization.builder().name("security-test-org").build());
+        user = userRepository.save(user("plain-user", Role.USER, organization));
+        User admin = userRepository.save(user("admin-user", Role.ADMIN, organization));
+
+        userToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+        adminToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(admin));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        organizationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void userTokenIsAuthenticatedForOwnProfile() throws Exception {
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deletedUserEndpointsRequireAdmin() throws Exception {
+        mockMvc.perform(get("/api/users/deleted").header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/users/{id}/restore", user.getId()).header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/users/deleted").header(HttpHeaders.AUTHORIZATION, adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void changingActiveStatusRequiresAdmin() throws Exception {
+        mockMvc.perform(patch("/api/users/{id}/status", user.getId()).param("active", "false")
+                        .header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void revokingTokensRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/users/{id}/revoke-tokens", user.getId()).header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private static User user(String username, Role role, Organization organization) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hash")
+                .role(role)
+                .organization(organization)
+                .build();
+    }
+}
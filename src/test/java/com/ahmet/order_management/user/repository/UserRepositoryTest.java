@@ -0,0 +1,131 @@
+package com.ahmet.order_management.user.repository;
+
+import com.ahmet.order_management.config.JpaConfig;
+import com.ahmet.order_management.organization.entity.Organization;
+import com.ahmet.order_management.user.dto.DeletedUserView;
+import com.ahmet.order_management.user.dto.UserResponse;
+import com.ahmet.order_management.user.entity.Role;
+import com.ahmet.order_management.user.entity.User;
+import com.ahmet.order_management.user.mapper.UserMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kullanıcı listeleme sorgusunun N+1 üretmediğini doğrular.
+ *
+ * Her kullanıcı farklı bir organizasyona bağlı; organization lazy yüklenseydi
+ * listedeki her kullanıcı için ayrı bir sorgu atılırdı.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final UserMapper userMapper = new UserMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingUsersUsesSingleStatementRegardlessOfSize() {
+        long statementsFor5 = countStatementsForListing(5);
+        long statementsFor50 = countStatementsForListing(50);
+
+        assertThat(statementsFor5).isEqualTo(1);
+        assertThat(statementsFor50).isEqualTo(statementsFor5);
+    }
+
+    @Test
+    void softDeletedUsersAreHiddenFromQueriesButListedForAdmin() {
+        Organization organization = Organization.builder().name("soft-delete-org").build();
+        entityManager.persist(organization);
+
+        User user = User.builder()
+                .username("deleted-user")
+                .email("deleted-user@example.com")
+                .password("hash")
+                .role(Role.USER)
+                .organization(organization)
+                .build();
+        entityManager.persist(user);
+        user.setDeletedAt(java.time.LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(userRepository.findByUsername("deleted-user")).isEmpty();
+        assertThat(userRepository.existsByEmail("deleted-user@example.com")).isFalse();
+        assertThat(userRepository.existsByOrganizationId(organization.getId())).isFalse();
+
+        List<DeletedUserView> deleted = userRepository.findDeleted(0, 10);
+        assertThat(deleted).singleElement().satisfies(view -> {
+            assertThat(view.getUsername()).isEqualTo("deleted-user");
+            assertThat(view.getOrganizationName()).isEqualTo("soft-delete-org");
+            assertThat(view.getDeletedAt()).isNotNull();
+        });
+
+        assertThat(userRepository.restore(user.getId())).isEqualTo(1);
+        entityManager.clear();
+        assertThat(userRepository.findByUsername("deleted-user")).isPresent();
+    }
+
+    /**
+     * size kadar kullanıcı oluşturur, listeyi DTO'ya çevirir ve atılan sorgu sayısını döner
+     */
+    private long countStatementsForListing(int size) {
+        userRepository.deleteAllInBatch();
+        for (int i = 0; i < size; i++) {
+            Organization organization = Organization.builder()
+                    .name("org-" + size + "-" + i)
+                    .build();
+            entityManager.persist(organization);
+
+            entityManager.persist(User.builder()
+                    .username("user-" + size + "-" + i)
+                    .email("user-" + size + "-" + i + "@example.com")
+                    .password("hash")
+                    .role(Role.USER)
+                    .organization(organization)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<User> users = userRepository.findAllByOrderByIdAsc(Limit.of(size));
+        List<UserResponse> responses = userMapper.toResponseList(users);
+
+        assertThat(responses).hasSize(size);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getOrganizationName()).isNotNull());
+
+        return statistics.getPrepareStatementCount();
+    }
+}